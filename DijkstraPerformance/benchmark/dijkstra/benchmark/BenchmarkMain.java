@@ -0,0 +1,18 @@
+package dijkstra.benchmark;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkMain {
+	
+	// the optional argument is a regular expression for the benchmarks to run, e.g. "PriorityQueueDijkstraBenchmark.query"
+	public static void main(String[] args) throws RunnerException {
+		String include = args.length > 0 ? args[0] : "dijkstra.benchmark.*";
+		Options options = new OptionsBuilder()
+			.include(include)
+			.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,57 @@
+package dijkstra.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.indexed.IndexedBinaryHeap;
+import dijkstra.indexed.IndexedHeapDijkstra;
+
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class DijkstraEngineBenchmark {
+	
+	double[] distance;
+	int[] previous;
+	IndexedBinaryHeap heap;
+	int nextOrigin;
+	
+	@Setup(Level.Trial)
+	public void createArrays(GraphState graph) {
+		distance = new double[graph.size];
+		previous = new int[graph.size];
+		heap = new IndexedBinaryHeap(graph.size);
+		nextOrigin = 0;
+	}
+	
+	@Benchmark
+	public int[] baseDijkstra(GraphState graph) {
+		int origin = graph.origins[nextOrigin];
+		nextOrigin = (nextOrigin + 1) % graph.origins.length;
+		BaseDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, origin, distance, previous);
+		return previous;
+	}
+	
+	@Benchmark
+	public int[] indexedHeapDijkstra(GraphState graph) {
+		int origin = graph.origins[nextOrigin];
+		nextOrigin = (nextOrigin + 1) % graph.origins.length;
+		IndexedHeapDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, origin, distance, previous, heap);
+		return previous;
+	}
+}
@@ -0,0 +1,36 @@
+package dijkstra.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+
+@State(Scope.Benchmark)
+public class GraphState {
+	
+	@Param({ "100", "500", "1000" })
+	public int size;
+	
+	@Param({ "0.1", "0.5", "0.9" })
+	public double p;
+	
+	public NeighbourArrayGraphGenerator generator;
+	public int[] origins;
+	
+	// the graph and the origins are generated once per trial, outside of the measured code
+	@Setup(Level.Trial)
+	public void generateGraph() {
+		Random random = new Random(42);
+		generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(size, p, random);
+		origins = new int[20];
+		for (int i = 0; i < origins.length; ++i) {
+			origins[i] = random.nextInt(size);
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package dijkstra.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueue;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.impl.DaryHeapPriorityQueue;
+import dijkstra.priority.impl.GrowingWithTheWebDijkstraPriorityObject;
+import dijkstra.priority.impl.GrowingWithTheWebFibonacciPriorityQueue;
+import dijkstra.priority.impl.KeithschwarzDijkstraPriorityObject;
+import dijkstra.priority.impl.KeithschwarzFibonacciPriorityQueue;
+import dijkstra.priority.impl.Neo4jDijkstraPriorityObject;
+import dijkstra.priority.impl.Neo4jFibonacciPrioityQueue;
+import dijkstra.priority.impl.NutchFibonacciPriorityQueue;
+import dijkstra.priority.impl.PairingHeapDijkstraPriorityObject;
+import dijkstra.priority.impl.PairingHeapPriorityQueue;
+import dijkstra.priority.impl.PengyifanDijkstraPriorityObject;
+import dijkstra.priority.impl.PengyifanFibonacciPriorityQueue;
+import dijkstra.priority.impl.RadixHeapPriorityQueue;
+import dijkstra.priority.impl.TeneightyDijkstraPriorityObject;
+import dijkstra.priority.impl.TeneightyFibonacciPriorityQueue;
+import dijkstra.priority.impl.TreeSetPriorityQueue;
+
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class PriorityQueueDijkstraBenchmark {
+	
+	// GrowingWithTheWeb and Pengyifan are left out by default, they throw exceptions on the random graphs (see Results.md)
+	@Param({ "TreeSet", "Neo4j", "Nutch", "Teneighty", "Keithschwarz", "Dary2", "Dary4", "Dary8", "Dary16", "Pairing", "Radix" })
+	public String queue;
+	
+	PriorityQueue<PriorityObject> priorityQueue;
+	PriorityObject[] priorityObjectArray;
+	int[] previous;
+	int nextOrigin;
+	
+	@Setup(Level.Trial)
+	public void createQueue(GraphState graph) {
+		priorityQueue = createPriorityQueue(queue, graph.size);
+		priorityObjectArray = new PriorityObject[graph.size];
+		for (int i = 0; i < graph.size; ++i) {
+			priorityObjectArray[i] = createPriorityObject(queue, i);
+		}
+		previous = new int[graph.size];
+		nextOrigin = 0;
+	}
+	
+	// one query per invocation, the previous array is returned so it cannot be eliminated
+	@Benchmark
+	public int[] query(GraphState graph) {
+		int origin = graph.origins[nextOrigin];
+		nextOrigin = (nextOrigin + 1) % graph.origins.length;
+		PriorityQueueDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, origin, previous, priorityObjectArray, priorityQueue);
+		return previous;
+	}
+	
+	@Benchmark
+	public int[] lazyQuery(GraphState graph) {
+		int origin = graph.origins[nextOrigin];
+		nextOrigin = (nextOrigin + 1) % graph.origins.length;
+		PriorityQueueDijkstra.createPreviousArrayLazy(graph.generator.neighbours, graph.generator.weights, origin, previous, priorityObjectArray, priorityQueue);
+		return previous;
+	}
+	
+	static PriorityQueue<PriorityObject> createPriorityQueue(String name, int size) {
+		switch (name) {
+		case "TreeSet":
+			return new TreeSetPriorityQueue();
+		case "Neo4j":
+			return new Neo4jFibonacciPrioityQueue();
+		case "Nutch":
+			return new NutchFibonacciPriorityQueue();
+		case "Teneighty":
+			return new TeneightyFibonacciPriorityQueue();
+		case "GrowingWithTheWeb":
+			return new GrowingWithTheWebFibonacciPriorityQueue();
+		case "Pengyifan":
+			return new PengyifanFibonacciPriorityQueue();
+		case "Keithschwarz":
+			return new KeithschwarzFibonacciPriorityQueue();
+		case "Dary2":
+			return new DaryHeapPriorityQueue(2, size);
+		case "Dary4":
+			return new DaryHeapPriorityQueue(4, size);
+		case "Dary8":
+			return new DaryHeapPriorityQueue(8, size);
+		case "Dary16":
+			return new DaryHeapPriorityQueue(16, size);
+		case "Pairing":
+			return new PairingHeapPriorityQueue();
+		case "Radix":
+			return new RadixHeapPriorityQueue(size);
+		default:
+			throw new IllegalArgumentException("Unknown queue: " + name);
+		}
+	}
+	
+	static PriorityObject createPriorityObject(String name, int node) {
+		switch (name) {
+		case "Neo4j":
+			return new Neo4jDijkstraPriorityObject(node, 0.0);
+		case "Teneighty":
+			return new TeneightyDijkstraPriorityObject(node, 0.0);
+		case "GrowingWithTheWeb":
+			return new GrowingWithTheWebDijkstraPriorityObject(node, 0.0);
+		case "Pengyifan":
+			return new PengyifanDijkstraPriorityObject(node, 0.0);
+		case "Keithschwarz":
+			return new KeithschwarzDijkstraPriorityObject(node, 0.0);
+		case "Pairing":
+			return new PairingHeapDijkstraPriorityObject(node, 0.0);
+		default:
+			return new PriorityObject(node, 0.0);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package dijkstra.alt;
+
+import dijkstra.astar.Heuristic;
+
+public class LandmarkHeuristic implements Heuristic {
+	
+	public int[] landmarks;
+	
+	// fromLandmark[l][v] = d(landmarks[l], v), toLandmark[l][v] = d(v, landmarks[l])
+	public double[][] fromLandmark;
+	public double[][] toLandmark;
+	
+	public LandmarkHeuristic(int[] landmarks, double[][] fromLandmark, double[][] toLandmark) {
+		this.landmarks = landmarks;
+		this.fromLandmark = fromLandmark;
+		this.toLandmark = toLandmark;
+	}
+	
+	// triangle inequality: d(v, t) >= d(L, t) - d(L, v) and d(v, t) >= d(v, L) - d(t, L);
+	// a landmark that reaches the node but not the target, or that the target reaches but the node does not,
+	// proves the target unreachable, skipping its term instead would make the bound inconsistent
+	@Override
+	public double estimate(int node, int target) {
+		double bound = 0.0;
+		for (int l = 0; l < landmarks.length; ++l) {
+			double[] from = fromLandmark[l];
+			if (from[node] != Double.MAX_VALUE) {
+				if (from[target] == Double.MAX_VALUE) {
+					return Double.MAX_VALUE;
+				}
+				bound = Math.max(bound, from[target] - from[node]);
+			}
+			double[] to = toLandmark[l];
+			if (to[target] != Double.MAX_VALUE) {
+				if (to[node] == Double.MAX_VALUE) {
+					return Double.MAX_VALUE;
+				}
+				bound = Math.max(bound, to[node] - to[target]);
+			}
+		}
+		return bound;
+	}
+	
+	public long bytesPerLandmark() {
+		return 2L * 8L * fromLandmark[0].length;
+	}
+	
+}
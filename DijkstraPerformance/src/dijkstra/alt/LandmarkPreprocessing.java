@@ -0,0 +1,196 @@
+package dijkstra.alt;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import dijkstra.graph.ReverseNeighbourArrayGraph;
+import dijkstra.indexed.IndexedBinaryHeap;
+import dijkstra.indexed.IndexedHeapDijkstra;
+
+public class LandmarkPreprocessing {
+	
+	// the forward searches drive the selection and run on the calling thread,
+	// the backward searches of the chosen landmarks are handed to the executor meanwhile
+	public static LandmarkHeuristic preprocess(int[][] neighbours, double[][] weights, int landmarkCount, LandmarkSelection selection, Random random, ExecutorService executor) {
+		
+		if (landmarkCount < 1 || landmarkCount > neighbours.length) {
+			throw new IllegalArgumentException("Landmark count must be in [1, " + neighbours.length + "]: " + landmarkCount);
+		}
+		
+		int size = neighbours.length;
+		ReverseNeighbourArrayGraph reverse = new ReverseNeighbourArrayGraph(neighbours, weights);
+		
+		int[] landmarks = new int[landmarkCount];
+		double[][] fromLandmark = new double[landmarkCount][];
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Future<double[]>[] toLandmark = new Future[landmarkCount];
+		
+		IndexedBinaryHeap heap = new IndexedBinaryHeap(size);
+		double[] rootDistance = new double[size];
+		int[] rootPrevious = new int[size];
+		int[] previous = new int[size];
+		
+		// the first landmark is the node farthest from a random root for both strategies
+		IndexedHeapDijkstra.createPreviousArray(neighbours, weights, random.nextInt(size), rootDistance, rootPrevious, heap);
+		int landmark = farthest(rootDistance);
+		
+		// minimum distance from the chosen landmarks, used by FARTHEST
+		double[] minDistance = new double[size];
+		Arrays.fill(minDistance, Double.MAX_VALUE);
+		
+		for (int l = 0; l < landmarkCount; ++l) {
+			landmarks[l] = landmark;
+			fromLandmark[l] = new double[size];
+			IndexedHeapDijkstra.createPreviousArray(neighbours, weights, landmark, fromLandmark[l], previous, heap);
+			toLandmark[l] = executor.submit(new BackwardSearch(reverse, landmark));
+			
+			if (l + 1 == landmarkCount) {
+				break;
+			}
+			
+			switch (selection) {
+			case FARTHEST:
+				for (int v = 0; v < size; ++v) {
+					minDistance[v] = Math.min(minDistance[v], fromLandmark[l][v]);
+				}
+				landmark = farthest(minDistance);
+				break;
+			case AVOID:
+				int root = random.nextInt(size);
+				IndexedHeapDijkstra.createPreviousArray(neighbours, weights, root, rootDistance, rootPrevious, heap);
+				landmark = avoid(root, rootDistance, rootPrevious, landmarks, l + 1, fromLandmark);
+				break;
+			}
+		}
+		
+		double[][] to = new double[landmarkCount][];
+		try {
+			for (int l = 0; l < landmarkCount; ++l) {
+				to[l] = toLandmark[l].get();
+			}
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+		
+		return new LandmarkHeuristic(landmarks, fromLandmark, to);
+	}
+	
+	private static int farthest(double[] distance) {
+		int farthest = 0;
+		for (int v = 1; v < distance.length; ++v) {
+			// unreachable nodes are left out, a landmark there would cover nothing
+			if (distance[v] != Double.MAX_VALUE && (distance[farthest] == Double.MAX_VALUE || distance[v] > distance[farthest])) {
+				farthest = v;
+			}
+		}
+		return farthest;
+	}
+	
+	private static int avoid(int root, double[] distance, int[] previous, int[] landmarks, int landmarkCount, double[][] fromLandmark) {
+		int size = distance.length;
+		
+		// weight of a node is how much the current landmarks underestimate its distance from the root
+		double[] weight = new double[size];
+		boolean[] hasLandmark = new boolean[size];
+		for (int v = 0; v < size; ++v) {
+			if (distance[v] == Double.MAX_VALUE) {
+				continue;
+			}
+			double bound = 0.0;
+			for (int l = 0; l < landmarkCount; ++l) {
+				if (fromLandmark[l][root] != Double.MAX_VALUE && fromLandmark[l][v] != Double.MAX_VALUE) {
+					bound = Math.max(bound, fromLandmark[l][v] - fromLandmark[l][root]);
+				}
+			}
+			weight[v] = distance[v] - bound;
+		}
+		for (int l = 0; l < landmarkCount; ++l) {
+			hasLandmark[landmarks[l]] = true;
+			weight[landmarks[l]] = -1.0;
+		}
+		
+		// sum the weights up the tree, children are farther from the root than their parents
+		Integer[] order = new Integer[size];
+		for (int v = 0; v < size; ++v) {
+			order[v] = v;
+		}
+		final double[] keys = distance;
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				return Double.compare(keys[b], keys[a]);
+			}
+		});
+		
+		double[] subtree = new double[size];
+		int[] heaviestChild = new int[size];
+		Arrays.fill(heaviestChild, -1);
+		for (int i = 0; i < size; ++i) {
+			int v = order[i];
+			if (distance[v] == Double.MAX_VALUE) {
+				continue;
+			}
+			// every descendant of v is done at this point
+			if (hasLandmark[v]) {
+				// subtrees that already contain a landmark are covered
+				subtree[v] = 0.0;
+			} else {
+				subtree[v] += weight[v];
+			}
+			int u = previous[v];
+			if (u == -1) {
+				continue;
+			}
+			if (hasLandmark[v]) {
+				hasLandmark[u] = true;
+			} else if (heaviestChild[u] == -1 || subtree[v] > subtree[heaviestChild[u]]) {
+				heaviestChild[u] = v;
+				subtree[u] += subtree[v];
+			} else {
+				subtree[u] += subtree[v];
+			}
+		}
+		
+		// walk down the heaviest uncovered subtrees to a leaf
+		int v = root;
+		while (heaviestChild[v] != -1) {
+			v = heaviestChild[v];
+		}
+		
+		// everything reachable is covered, fall back to the worst estimated node
+		for (int l = 0; l < landmarkCount; ++l) {
+			if (landmarks[l] == v) {
+				v = farthest(weight);
+				break;
+			}
+		}
+		return v;
+	}
+	
+	private static class BackwardSearch implements Callable<double[]> {
+		
+		ReverseNeighbourArrayGraph reverse;
+		int landmark;
+		
+		BackwardSearch(ReverseNeighbourArrayGraph reverse, int landmark) {
+			this.reverse = reverse;
+			this.landmark = landmark;
+		}
+		
+		@Override
+		public double[] call() {
+			int size = reverse.neighbours.length;
+			double[] distance = new double[size];
+			IndexedHeapDijkstra.createPreviousArray(reverse.neighbours, reverse.weights, landmark, distance, new int[size], new IndexedBinaryHeap(size));
+			return distance;
+		}
+	}
+	
+}
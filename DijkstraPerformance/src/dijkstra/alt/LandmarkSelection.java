@@ -0,0 +1,11 @@
+package dijkstra.alt;
+
+public enum LandmarkSelection {
+	
+	// every new landmark is the node farthest from the ones already chosen
+	FARTHEST,
+	
+	// every new landmark is a leaf of the subtree of a random shortest path tree that is worst covered so far
+	AVOID
+	
+}
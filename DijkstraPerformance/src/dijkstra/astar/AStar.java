@@ -0,0 +1,64 @@
+package dijkstra.astar;
+
+import dijkstra.path.Route;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueue;
+
+public class AStar {
+	
+	public static Route pointToPoint(int[][] neighbours, double[][] weights, Heuristic heuristic, int source, int target, double[] distance, int[] previous, PriorityObject[] priorityObjectArray, PriorityQueue<PriorityObject> priorityQueue) {
+		
+		for (int i = 0; i < priorityObjectArray.length; ++i) {
+			priorityObjectArray[i].priority = Double.MAX_VALUE;
+			distance[i] = Double.MAX_VALUE;
+			previous[i] = -1;
+		}
+		
+		// the queue is keyed by distance + estimate, the distances are kept apart
+		distance[source] = 0.0;
+		priorityQueue.clear();
+		double sourceEstimate = heuristic.estimate(source, target);
+		if (sourceEstimate == Double.MAX_VALUE) {
+			return null;
+		}
+		priorityQueue.insertOrDecrease(priorityObjectArray[source], sourceEstimate);
+		
+		int settledNodes = 0;
+		
+		while (priorityQueue.size() != 0) {
+			
+			// extract min
+			PriorityObject min = priorityQueue.extractMin();
+			int u = min.node;
+			++settledNodes;
+			
+			// with a consistent heuristic every node is extracted once, so the target is final here
+			if (u == target) {
+				return Route.fromPrevious(previous, source, target, distance[target], settledNodes);
+			}
+			
+			// find the neighbours
+			if (neighbours[u] == null) {
+				continue;
+			}
+			
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				int v = neighbours[u][i];
+				double alt = distance[u] + weights[u][i];
+				if (alt < distance[v]) {
+					// the target cannot be reached through v
+					double estimate = heuristic.estimate(v, target);
+					if (estimate == Double.MAX_VALUE) {
+						continue;
+					}
+					distance[v] = alt;
+					priorityQueue.insertOrDecrease(priorityObjectArray[v], alt + estimate);
+					previous[v] = u;
+				}
+			}
+		}
+		
+		return null;
+	}
+	
+}
@@ -0,0 +1,18 @@
+package dijkstra.astar;
+
+public class EuclideanHeuristic implements Heuristic {
+	
+	double[] x;
+	double[] y;
+	
+	public EuclideanHeuristic(double[] x, double[] y) {
+		this.x = x;
+		this.y = y;
+	}
+	
+	@Override
+	public double estimate(int node, int target) {
+		return Math.hypot(x[node] - x[target], y[node] - y[target]);
+	}
+	
+}
@@ -0,0 +1,10 @@
+package dijkstra.astar;
+
+public interface Heuristic {
+	
+	// lower bound of the distance from node to target, it has to be consistent:
+	// estimate(u, target) <= weight(u, v) + estimate(v, target) for every arc (u, v);
+	// Double.MAX_VALUE means the target cannot be reached from node, such nodes are pruned
+	double estimate(int node, int target);
+	
+}
@@ -1,7 +1,10 @@
 package dijkstra.base;
 
 import java.util.HashSet;
-import java.util.LinkedList;
+
+import dijkstra.graph.CompressedSparseRowGraph;
+import dijkstra.path.PathExtractor;
+import dijkstra.path.Route;
 
 public class BaseDijkstra {
 	public static void createPreviousArray(int[][] neighbours, double[][] weights, int source, double[] distance, int[] previous) {
@@ -52,24 +55,116 @@ public class BaseDijkstra {
 		}
 	}
 	
-	public static int[] shortestPath(int[] previous, int destination) {
-		if (previous[destination] == -1) {
-			return null;
+	public static void createPreviousArray(CompressedSparseRowGraph graph, int source, double[] distance, int[] previous) {
+		
+		int[] offsets = graph.offsets;
+		int[] targets = graph.targets;
+		double[] weights = graph.weights;
+		int largestNodeId = graph.size();
+		
+		for (int i = 0; i < largestNodeId; ++i) {
+			distance[i] = Double.MAX_VALUE;
+			previous[i] = -1;
+		}
+		
+		distance[source] = 0.0;
+		
+		HashSet<Integer> verticies = new HashSet<Integer>();
+		for (int i = 0; i < largestNodeId; ++i) {
+			verticies.add(i);
+		}
+		
+		while (verticies.size() != 0) {
+			
+			int u = -1;
+			
+			// search the element where the distance is minimum
+			for (int v : verticies) {
+				if (u == -1) {
+					u = v;
+				} else {
+					if (distance[u] > distance[v]) {
+						u = v;
+					}
+				}
+			}
+			
+			verticies.remove(u);
+			
+			// the arcs of u are contiguous in the targets and weights arrays
+			for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+				double alt = distance[u] + weights[i];
+				if (alt < distance[targets[i]]) {
+					distance[targets[i]] = alt;
+					previous[targets[i]] = u;
+				}
+			}
+		}
+	}
+	
+	public static Route pointToPoint(int[][] neighbours, double[][] weights, int source, int target, double[] distance, int[] previous) {
+		
+		int largestNodeId = neighbours.length;
+		
+		for (int i = 0; i < largestNodeId; ++i) {
+			distance[i] = Double.MAX_VALUE;
+			previous[i] = -1;
 		}
 		
-		LinkedList<Integer> reversedRoute = new LinkedList<>();
-		int u = destination;
+		distance[source] = 0.0;
 		
-		while (u != -1) {
-			reversedRoute.add(u);
-			u = previous[u];
+		HashSet<Integer> verticies = new HashSet<Integer>();
+		for (int i = 0; i < largestNodeId; ++i) {
+			verticies.add(i);
 		}
 		
-		int[] path = new int[reversedRoute.size()];
-		for (int i = 0; i < path.length; ++i) {
-			path[i] = reversedRoute.get(path.length - 1 - i);
+		int settledNodes = 0;
+		
+		while (verticies.size() != 0) {
+			
+			int u = -1;
+			
+			// search the element where the distance is minimum
+			for (int v : verticies) {
+				if (u == -1) {
+					u = v;
+				} else {
+					if (distance[u] > distance[v]) {
+						u = v;
+					}
+				}
+			}
+			
+			// the rest of the graph is not reachable from the source
+			if (distance[u] == Double.MAX_VALUE) {
+				break;
+			}
+			
+			verticies.remove(u);
+			++settledNodes;
+			
+			// the distance of the target is final once it is settled
+			if (u == target) {
+				return Route.fromPrevious(previous, source, target, distance[target], settledNodes);
+			}
+			
+			if (neighbours[u] == null) {
+				continue;
+			}
+						
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				double alt = distance[u] + weights[u][i];
+				if (alt < distance[neighbours[u][i]]) {
+					distance[neighbours[u][i]] = alt;
+					previous[neighbours[u][i]] = u;
+				}
+			}
 		}
 		
-		return path;
+		return null;
+	}
+	
+	public static int[] shortestPath(int[] previous, int destination) {
+		return PathExtractor.path(previous, destination);
 	}		
 }
@@ -0,0 +1,109 @@
+package dijkstra.batch;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueue;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.PriorityQueueFactory;
+
+public class BatchShortestPaths {
+	
+	int[][] neighbours;
+	double[][] weights;
+	ExecutorService executor;
+	
+	// one workspace per worker, reused by every batch
+	Workspace[] workspaces;
+	
+	public BatchShortestPaths(int[][] neighbours, double[][] weights, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory, ExecutorService executor, int workers) {
+		if (workers < 1) {
+			throw new IllegalArgumentException("Worker count must be positive: " + workers);
+		}
+		this.neighbours = neighbours;
+		this.weights = weights;
+		this.executor = executor;
+		workspaces = new Workspace[workers];
+		for (int w = 0; w < workers; ++w) {
+			workspaces[w] = new Workspace(neighbours.length, priorityQueueFactory, priorityObjectFactory);
+		}
+	}
+	
+	// the workers take the next origin when they are done, so uneven searches do not leave cores idle
+	public void run(int[] origins, ShortestPathCallback callback) {
+		AtomicInteger next = new AtomicInteger();
+		ArrayList<Future<Void>> futures = new ArrayList<>();
+		for (int w = 0; w < workspaces.length; ++w) {
+			futures.add(executor.submit(new Worker(workspaces[w], origins, next, callback)));
+		}
+		
+		try {
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+	}
+	
+	public int[][] createPreviousArrays(int[] origins) {
+		final int[][] result = new int[origins.length][];
+		run(origins, new ShortestPathCallback() {
+			@Override
+			public void shortestPaths(int index, int origin, int[] previous, PriorityObject[] priorityObjectArray) {
+				result[index] = previous.clone();
+			}
+		});
+		return result;
+	}
+	
+	static class Workspace {
+		
+		int[] previous;
+		PriorityObject[] priorityObjectArray;
+		PriorityQueue<PriorityObject> priorityQueue;
+		
+		Workspace(int size, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory) {
+			previous = new int[size];
+			priorityObjectArray = new PriorityObject[size];
+			for (int i = 0; i < size; ++i) {
+				priorityObjectArray[i] = priorityObjectFactory.createPriorityObject(i, 0.0);
+			}
+			priorityQueue = priorityQueueFactory.createPriorityQueue(size);
+		}
+	}
+	
+	private class Worker implements Callable<Void> {
+		
+		Workspace workspace;
+		int[] origins;
+		AtomicInteger next;
+		ShortestPathCallback callback;
+		
+		Worker(Workspace workspace, int[] origins, AtomicInteger next, ShortestPathCallback callback) {
+			this.workspace = workspace;
+			this.origins = origins;
+			this.next = next;
+			this.callback = callback;
+		}
+		
+		@Override
+		public Void call() {
+			int i;
+			while ((i = next.getAndIncrement()) < origins.length) {
+				PriorityQueueDijkstra.createPreviousArrayLazy(neighbours, weights, origins[i], workspace.previous, workspace.priorityObjectArray, workspace.priorityQueue);
+				callback.shortestPaths(i, origins[i], workspace.previous, workspace.priorityObjectArray);
+			}
+			return null;
+		}
+	}
+	
+}
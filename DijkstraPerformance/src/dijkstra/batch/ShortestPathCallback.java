@@ -0,0 +1,11 @@
+package dijkstra.batch;
+
+import dijkstra.priority.PriorityObject;
+
+public interface ShortestPathCallback {
+	
+	// called on the worker thread for origins[index], the arrays belong to its workspace
+	// and are overwritten by its next source
+	void shortestPaths(int index, int origin, int[] previous, PriorityObject[] priorityObjectArray);
+	
+}
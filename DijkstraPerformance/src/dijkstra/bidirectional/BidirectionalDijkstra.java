@@ -0,0 +1,118 @@
+package dijkstra.bidirectional;
+
+import dijkstra.graph.ReverseNeighbourArrayGraph;
+import dijkstra.path.Route;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueue;
+
+public class BidirectionalDijkstra {
+	
+	public static Route pointToPoint(int[][] neighbours, double[][] weights, ReverseNeighbourArrayGraph reverse, int source, int target, int[] forwardPrevious, int[] backwardNext, PriorityObject[] forwardObjectArray, PriorityObject[] backwardObjectArray, PriorityQueue<PriorityObject> forwardQueue, PriorityQueue<PriorityObject> backwardQueue) {
+		
+		for (int i = 0; i < forwardObjectArray.length; ++i) {
+			forwardObjectArray[i].priority = Double.MAX_VALUE;
+			backwardObjectArray[i].priority = Double.MAX_VALUE;
+			forwardPrevious[i] = -1;
+			backwardNext[i] = -1;
+		}
+		
+		if (source == target) {
+			return new Route(0.0, new int[] { source }, 1);
+		}
+		
+		forwardQueue.clear();
+		backwardQueue.clear();
+		forwardQueue.insertOrDecrease(forwardObjectArray[source], 0.0);
+		backwardQueue.insertOrDecrease(backwardObjectArray[target], 0.0);
+		
+		// length of the best path seen so far and the node where its two halves meet
+		double best = Double.MAX_VALUE;
+		int meeting = -1;
+		
+		// the last extracted keys are lower bounds for the minimums of the queues
+		double forwardLast = 0.0;
+		double backwardLast = 0.0;
+		
+		int settledNodes = 0;
+		boolean forwardTurn = true;
+		
+		while (forwardQueue.size() != 0 && backwardQueue.size() != 0) {
+			
+			if (forwardTurn) {
+				PriorityObject min = forwardQueue.extractMin();
+				forwardLast = min.priority;
+				if (forwardLast + backwardLast >= best) {
+					break;
+				}
+				++settledNodes;
+				
+				int u = min.node;
+				if (neighbours[u] != null) {
+					for (int i = 0; i < neighbours[u].length; ++i) {
+						int v = neighbours[u][i];
+						double alt = min.priority + weights[u][i];
+						if (alt < forwardObjectArray[v].priority) {
+							forwardQueue.insertOrDecrease(forwardObjectArray[v], alt);
+							forwardPrevious[v] = u;
+							if (backwardObjectArray[v].priority != Double.MAX_VALUE && alt + backwardObjectArray[v].priority < best) {
+								best = alt + backwardObjectArray[v].priority;
+								meeting = v;
+							}
+						}
+					}
+				}
+			} else {
+				PriorityObject min = backwardQueue.extractMin();
+				backwardLast = min.priority;
+				if (forwardLast + backwardLast >= best) {
+					break;
+				}
+				++settledNodes;
+				
+				int u = min.node;
+				for (int i = 0; i < reverse.neighbours[u].length; ++i) {
+					int v = reverse.neighbours[u][i];
+					double alt = min.priority + reverse.weights[u][i];
+					if (alt < backwardObjectArray[v].priority) {
+						backwardQueue.insertOrDecrease(backwardObjectArray[v], alt);
+						backwardNext[v] = u;
+						if (forwardObjectArray[v].priority != Double.MAX_VALUE && alt + forwardObjectArray[v].priority < best) {
+							best = alt + forwardObjectArray[v].priority;
+							meeting = v;
+						}
+					}
+				}
+			}
+			
+			forwardTurn = !forwardTurn;
+		}
+		
+		if (meeting == -1) {
+			return null;
+		}
+		
+		// source -> meeting from the forward tree, meeting -> target from the backward tree
+		int forwardLength = 0;
+		for (int u = meeting; u != source; u = forwardPrevious[u]) {
+			++forwardLength;
+		}
+		int backwardLength = 0;
+		for (int u = meeting; u != target; u = backwardNext[u]) {
+			++backwardLength;
+		}
+		
+		int[] path = new int[forwardLength + 1 + backwardLength];
+		int u = meeting;
+		for (int i = forwardLength; i >= 0; --i) {
+			path[i] = u;
+			u = forwardPrevious[u];
+		}
+		u = meeting;
+		for (int i = forwardLength + 1; i < path.length; ++i) {
+			u = backwardNext[u];
+			path[i] = u;
+		}
+		
+		return new Route(best, path, settledNodes);
+	}
+}
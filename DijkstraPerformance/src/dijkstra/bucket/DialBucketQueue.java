@@ -0,0 +1,102 @@
+package dijkstra.bucket;
+
+public class DialBucketQueue {
+	
+	// keys in the queue are always within [current, current + maxWeight], so maxWeight + 1 circular buckets are enough
+	final int bucketNumber;
+	
+	// doubly linked bucket lists threaded through node indexed arrays
+	int[] heads;
+	int[] next;
+	int[] previous;
+	int[] keys;
+	boolean[] queued;
+	
+	int current = 0;
+	int size = 0;
+	
+	public DialBucketQueue(int capacity, int maxWeight) {
+		bucketNumber = maxWeight + 1;
+		heads = new int[bucketNumber];
+		for (int i = 0; i < bucketNumber; ++i) {
+			heads[i] = -1;
+		}
+		next = new int[capacity];
+		previous = new int[capacity];
+		keys = new int[capacity];
+		queued = new boolean[capacity];
+	}
+	
+	public void insert(int node, int key) {
+		keys[node] = key;
+		queued[node] = true;
+		int bucket = key % bucketNumber;
+		next[node] = heads[bucket];
+		previous[node] = -1;
+		if (heads[bucket] != -1) {
+			previous[heads[bucket]] = node;
+		}
+		heads[bucket] = node;
+		++size;
+	}
+	
+	public void decreaseKey(int node, int key) {
+		unlink(node);
+		--size;
+		insert(node, key);
+	}
+	
+	public void insertOrDecrease(int node, int key) {
+		if (queued[node]) {
+			decreaseKey(node, key);
+		} else {
+			insert(node, key);
+		}
+	}
+	
+	public int key(int node) {
+		return keys[node];
+	}
+	
+	public int extractMin() {
+		if (size == 0) {
+			return -1;
+		}
+		int bucket = current % bucketNumber;
+		while (heads[bucket] == -1) {
+			++current;
+			bucket = current % bucketNumber;
+		}
+		int node = heads[bucket];
+		unlink(node);
+		queued[node] = false;
+		--size;
+		return node;
+	}
+	
+	public void clear() {
+		for (int i = 0; i < bucketNumber; ++i) {
+			while (heads[i] != -1) {
+				queued[heads[i]] = false;
+				heads[i] = next[heads[i]];
+			}
+		}
+		current = 0;
+		size = 0;
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	private void unlink(int node) {
+		if (previous[node] != -1) {
+			next[previous[node]] = next[node];
+		} else {
+			heads[keys[node] % bucketNumber] = next[node];
+		}
+		if (next[node] != -1) {
+			previous[next[node]] = previous[node];
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package dijkstra.bucket;
+
+public class DialDijkstra {
+	
+	// the weights have to be integers from [0, maxWeight] stored as doubles, see NeighbourArrayGraphGenerator
+	public static void createPreviousArray(int[][] neighbours, double[][] weights, int source, double[] distance, int[] previous, DialBucketQueue queue) {
+		
+		for (int i = 0; i < distance.length; ++i) {
+			distance[i] = Double.MAX_VALUE;
+			previous[i] = -1;
+		}
+		
+		distance[source] = 0.0;
+		
+		queue.clear();
+		queue.insert(source, 0);
+		
+		while (queue.size() != 0) {
+			
+			// extract min
+			int u = queue.extractMin();
+			int du = queue.key(u);
+			
+			// find the neighbours
+			if (neighbours[u] == null) {
+				continue;
+			}
+			
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				int v = neighbours[u][i];
+				int alt = du + (int)weights[u][i];
+				if (alt < distance[v]) {
+					distance[v] = alt;
+					previous[v] = u;
+					queue.insertOrDecrease(v, alt);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package dijkstra.ch;
+
+public class ContractionHierarchy {
+	
+	// position of every node in the contraction order
+	public int[] rank;
+	
+	// arcs u -> w with rank[w] > rank[u], stored at u
+	public int[][] upNeighbours;
+	public double[][] upWeights;
+	
+	// arcs x -> v with rank[x] > rank[v], stored at v
+	public int[][] downNeighbours;
+	public double[][] downWeights;
+	
+	// the contracted node a shortcut skips, -1 for original arcs
+	public int[][] upMiddle;
+	public int[][] downMiddle;
+	
+	public int shortcuts;
+	
+	public int size() {
+		return rank.length;
+	}
+	
+	public int arcs() {
+		int arcs = 0;
+		for (int v = 0; v < rank.length; ++v) {
+			arcs += upNeighbours[v].length + downNeighbours[v].length;
+		}
+		return arcs;
+	}
+	
+	// middle node of the arc u -> w, -1 if it is an original arc
+	public int middle(int u, int w) {
+		if (rank[w] > rank[u]) {
+			for (int i = 0; i < upNeighbours[u].length; ++i) {
+				if (upNeighbours[u][i] == w) {
+					return upMiddle[u][i];
+				}
+			}
+		} else {
+			for (int i = 0; i < downNeighbours[w].length; ++i) {
+				if (downNeighbours[w][i] == u) {
+					return downMiddle[w][i];
+				}
+			}
+		}
+		throw new IllegalArgumentException("No arc " + u + " -> " + w);
+	}
+	
+}
@@ -0,0 +1,276 @@
+package dijkstra.ch;
+
+import java.util.ArrayList;
+
+import dijkstra.indexed.IndexedBinaryHeap;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueue;
+import dijkstra.priority.PriorityQueueFactory;
+
+public class ContractionHierarchyBuilder {
+	
+	// witness searches give up after this many settled nodes and a shortcut is added instead
+	public static final int WITNESS_SETTLED_LIMIT = 500;
+	
+	int size;
+	ArrayList<Arc>[] out;
+	ArrayList<Arc>[] in;
+	boolean[] contracted;
+	int[] contractedNeighbours;
+	int shortcuts;
+	
+	PriorityObject[] witnessObjectArray;
+	PriorityQueue<PriorityObject> witnessQueue;
+	int[] touched;
+	int touchedCount;
+	
+	public static ContractionHierarchy build(int[][] neighbours, double[][] weights, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory) {
+		return new ContractionHierarchyBuilder(neighbours, weights, priorityQueueFactory, priorityObjectFactory).contract();
+	}
+	
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private ContractionHierarchyBuilder(int[][] neighbours, double[][] weights, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory) {
+		size = neighbours.length;
+		out = new ArrayList[size];
+		in = new ArrayList[size];
+		for (int v = 0; v < size; ++v) {
+			out[v] = new ArrayList<>();
+			in[v] = new ArrayList<>();
+		}
+		for (int u = 0; u < size; ++u) {
+			if (neighbours[u] == null) {
+				continue;
+			}
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				if (neighbours[u][i] != u) {
+					Arc arc = new Arc(u, neighbours[u][i], weights[u][i], -1);
+					out[u].add(arc);
+					in[arc.to].add(arc);
+				}
+			}
+		}
+		contracted = new boolean[size];
+		contractedNeighbours = new int[size];
+		
+		witnessObjectArray = new PriorityObject[size];
+		for (int v = 0; v < size; ++v) {
+			witnessObjectArray[v] = priorityObjectFactory.createPriorityObject(v, Double.MAX_VALUE);
+		}
+		witnessQueue = priorityQueueFactory.createPriorityQueue(size);
+		touched = new int[size];
+	}
+	
+	private ContractionHierarchy contract() {
+		
+		// nodes are ordered by edge difference, the keys are refreshed lazily when a node comes up;
+		// edge differences can be negative and rise again, so the order needs a non-monotone queue
+		// whatever queue the witness searches use
+		IndexedBinaryHeap orderQueue = new IndexedBinaryHeap(size);
+		for (int v = 0; v < size; ++v) {
+			orderQueue.insert(v, edgeDifference(v));
+		}
+		
+		int[] rank = new int[size];
+		int next = 0;
+		while (orderQueue.size() != 0) {
+			int v = orderQueue.extractMin();
+			
+			double priority = edgeDifference(v);
+			if (priority > orderQueue.key(v)) {
+				orderQueue.insert(v, priority);
+				continue;
+			}
+			
+			shortcuts(v, true);
+			contracted[v] = true;
+			rank[v] = next++;
+			for (Arc arc : out[v]) {
+				++contractedNeighbours[arc.to];
+			}
+			for (Arc arc : in[v]) {
+				++contractedNeighbours[arc.from];
+			}
+		}
+		
+		return createHierarchy(rank);
+	}
+	
+	private double edgeDifference(int v) {
+		int removed = 0;
+		for (Arc arc : out[v]) {
+			if (!contracted[arc.to]) {
+				++removed;
+			}
+		}
+		for (Arc arc : in[v]) {
+			if (!contracted[arc.from]) {
+				++removed;
+			}
+		}
+		// contracted neighbours spread the contraction over the graph
+		return shortcuts(v, false) - removed + contractedNeighbours[v];
+	}
+	
+	private int shortcuts(int v, boolean add) {
+		int count = 0;
+		for (int i = 0; i < in[v].size(); ++i) {
+			Arc first = in[v].get(i);
+			int u = first.from;
+			if (contracted[u]) {
+				continue;
+			}
+			
+			double limit = -1.0;
+			for (Arc second : out[v]) {
+				if (!contracted[second.to] && second.to != u) {
+					limit = Math.max(limit, first.weight + second.weight);
+				}
+			}
+			if (limit < 0.0) {
+				continue;
+			}
+			
+			witnessSearch(u, v, limit);
+			
+			for (int j = 0; j < out[v].size(); ++j) {
+				Arc second = out[v].get(j);
+				int w = second.to;
+				if (contracted[w] || w == u) {
+					continue;
+				}
+				double via = first.weight + second.weight;
+				if (witnessObjectArray[w].priority > via) {
+					++count;
+					if (add) {
+						addShortcut(u, w, via, v);
+					}
+				}
+			}
+			
+			resetWitnessSearch();
+		}
+		return count;
+	}
+	
+	// distances from u that avoid v, only paths no longer than limit are of interest
+	private void witnessSearch(int u, int v, double limit) {
+		witnessQueue.clear();
+		witnessQueue.insertOrDecrease(witnessObjectArray[u], 0.0);
+		touched[touchedCount++] = u;
+		
+		int settled = 0;
+		while (witnessQueue.size() != 0 && settled < WITNESS_SETTLED_LIMIT) {
+			PriorityObject min = witnessQueue.extractMin();
+			if (min.priority > limit) {
+				break;
+			}
+			++settled;
+			
+			for (Arc arc : out[min.node]) {
+				int x = arc.to;
+				if (x == v || contracted[x]) {
+					continue;
+				}
+				double alt = min.priority + arc.weight;
+				if (alt < witnessObjectArray[x].priority) {
+					if (witnessObjectArray[x].priority == Double.MAX_VALUE) {
+						touched[touchedCount++] = x;
+					}
+					witnessQueue.insertOrDecrease(witnessObjectArray[x], alt);
+				}
+			}
+		}
+	}
+	
+	private void resetWitnessSearch() {
+		for (int i = 0; i < touchedCount; ++i) {
+			witnessObjectArray[touched[i]].priority = Double.MAX_VALUE;
+		}
+		touchedCount = 0;
+	}
+	
+	private void addShortcut(int u, int w, double weight, int middle) {
+		for (Arc arc : out[u]) {
+			if (arc.to == w) {
+				if (weight < arc.weight) {
+					arc.weight = weight;
+					arc.middle = middle;
+				}
+				return;
+			}
+		}
+		Arc arc = new Arc(u, w, weight, middle);
+		out[u].add(arc);
+		in[w].add(arc);
+		++shortcuts;
+	}
+	
+	private ContractionHierarchy createHierarchy(int[] rank) {
+		int[] upDegree = new int[size];
+		int[] downDegree = new int[size];
+		for (int u = 0; u < size; ++u) {
+			for (Arc arc : out[u]) {
+				if (rank[arc.to] > rank[u]) {
+					++upDegree[u];
+				} else {
+					++downDegree[arc.to];
+				}
+			}
+		}
+		
+		ContractionHierarchy hierarchy = new ContractionHierarchy();
+		hierarchy.rank = rank;
+		hierarchy.shortcuts = shortcuts;
+		hierarchy.upNeighbours = new int[size][];
+		hierarchy.upWeights = new double[size][];
+		hierarchy.upMiddle = new int[size][];
+		hierarchy.downNeighbours = new int[size][];
+		hierarchy.downWeights = new double[size][];
+		hierarchy.downMiddle = new int[size][];
+		for (int v = 0; v < size; ++v) {
+			hierarchy.upNeighbours[v] = new int[upDegree[v]];
+			hierarchy.upWeights[v] = new double[upDegree[v]];
+			hierarchy.upMiddle[v] = new int[upDegree[v]];
+			hierarchy.downNeighbours[v] = new int[downDegree[v]];
+			hierarchy.downWeights[v] = new double[downDegree[v]];
+			hierarchy.downMiddle[v] = new int[downDegree[v]];
+			upDegree[v] = 0;
+			downDegree[v] = 0;
+		}
+		
+		for (int u = 0; u < size; ++u) {
+			for (Arc arc : out[u]) {
+				int w = arc.to;
+				if (rank[w] > rank[u]) {
+					hierarchy.upNeighbours[u][upDegree[u]] = w;
+					hierarchy.upWeights[u][upDegree[u]] = arc.weight;
+					hierarchy.upMiddle[u][upDegree[u]] = arc.middle;
+					++upDegree[u];
+				} else {
+					hierarchy.downNeighbours[w][downDegree[w]] = u;
+					hierarchy.downWeights[w][downDegree[w]] = arc.weight;
+					hierarchy.downMiddle[w][downDegree[w]] = arc.middle;
+					++downDegree[w];
+				}
+			}
+		}
+		return hierarchy;
+	}
+	
+	private static class Arc {
+		
+		int from;
+		int to;
+		double weight;
+		int middle;
+		
+		Arc(int from, int to, double weight, int middle) {
+			this.from = from;
+			this.to = to;
+			this.weight = weight;
+			this.middle = middle;
+		}
+	}
+	
+}
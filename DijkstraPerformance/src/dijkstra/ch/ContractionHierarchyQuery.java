@@ -0,0 +1,175 @@
+package dijkstra.ch;
+
+import dijkstra.path.Route;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueue;
+import dijkstra.priority.PriorityQueueFactory;
+
+public class ContractionHierarchyQuery {
+	
+	ContractionHierarchy hierarchy;
+	
+	// working arrays are kept between queries, only the touched entries are reset
+	PriorityObject[] forwardObjectArray;
+	PriorityObject[] backwardObjectArray;
+	PriorityQueue<PriorityObject> forwardQueue;
+	PriorityQueue<PriorityObject> backwardQueue;
+	int[] forwardPrevious;
+	int[] backwardNext;
+	int[] forwardTouched;
+	int[] backwardTouched;
+	int forwardTouchedCount;
+	int backwardTouchedCount;
+	
+	// the unpacked path is written from the start on each query, it never needs a reset
+	int[] unpacked;
+	
+	public ContractionHierarchyQuery(ContractionHierarchy hierarchy, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory) {
+		this.hierarchy = hierarchy;
+		int size = hierarchy.size();
+		forwardObjectArray = new PriorityObject[size];
+		backwardObjectArray = new PriorityObject[size];
+		for (int v = 0; v < size; ++v) {
+			forwardObjectArray[v] = priorityObjectFactory.createPriorityObject(v, Double.MAX_VALUE);
+			backwardObjectArray[v] = priorityObjectFactory.createPriorityObject(v, Double.MAX_VALUE);
+		}
+		forwardQueue = priorityQueueFactory.createPriorityQueue(size);
+		backwardQueue = priorityQueueFactory.createPriorityQueue(size);
+		forwardPrevious = new int[size];
+		backwardNext = new int[size];
+		forwardTouched = new int[size];
+		backwardTouched = new int[size];
+		unpacked = new int[size];
+	}
+	
+	public Route pointToPoint(int source, int target) {
+		
+		for (int i = 0; i < forwardTouchedCount; ++i) {
+			forwardObjectArray[forwardTouched[i]].priority = Double.MAX_VALUE;
+		}
+		for (int i = 0; i < backwardTouchedCount; ++i) {
+			backwardObjectArray[backwardTouched[i]].priority = Double.MAX_VALUE;
+		}
+		forwardTouchedCount = 0;
+		backwardTouchedCount = 0;
+		
+		if (source == target) {
+			return new Route(0.0, new int[] { source }, 1);
+		}
+		
+		forwardQueue.clear();
+		backwardQueue.clear();
+		forwardQueue.insertOrDecrease(forwardObjectArray[source], 0.0);
+		forwardTouched[forwardTouchedCount++] = source;
+		forwardPrevious[source] = -1;
+		backwardQueue.insertOrDecrease(backwardObjectArray[target], 0.0);
+		backwardTouched[backwardTouchedCount++] = target;
+		backwardNext[target] = -1;
+		
+		double best = Double.MAX_VALUE;
+		int meeting = -1;
+		int settledNodes = 0;
+		
+		// both searches only go up in the hierarchy, each stops once it cannot improve the best path
+		while (forwardQueue.size() != 0 || backwardQueue.size() != 0) {
+			
+			if (forwardQueue.size() != 0) {
+				PriorityObject min = forwardQueue.extractMin();
+				if (min.priority >= best) {
+					forwardQueue.clear();
+				} else {
+					++settledNodes;
+					int u = min.node;
+					for (int i = 0; i < hierarchy.upNeighbours[u].length; ++i) {
+						int w = hierarchy.upNeighbours[u][i];
+						double alt = min.priority + hierarchy.upWeights[u][i];
+						if (alt < forwardObjectArray[w].priority) {
+							if (forwardObjectArray[w].priority == Double.MAX_VALUE) {
+								forwardTouched[forwardTouchedCount++] = w;
+							}
+							forwardQueue.insertOrDecrease(forwardObjectArray[w], alt);
+							forwardPrevious[w] = u;
+							if (backwardObjectArray[w].priority != Double.MAX_VALUE && alt + backwardObjectArray[w].priority < best) {
+								best = alt + backwardObjectArray[w].priority;
+								meeting = w;
+							}
+						}
+					}
+				}
+			}
+			
+			if (backwardQueue.size() != 0) {
+				PriorityObject min = backwardQueue.extractMin();
+				if (min.priority >= best) {
+					backwardQueue.clear();
+				} else {
+					++settledNodes;
+					int u = min.node;
+					for (int i = 0; i < hierarchy.downNeighbours[u].length; ++i) {
+						int x = hierarchy.downNeighbours[u][i];
+						double alt = min.priority + hierarchy.downWeights[u][i];
+						if (alt < backwardObjectArray[x].priority) {
+							if (backwardObjectArray[x].priority == Double.MAX_VALUE) {
+								backwardTouched[backwardTouchedCount++] = x;
+							}
+							backwardQueue.insertOrDecrease(backwardObjectArray[x], alt);
+							backwardNext[x] = u;
+							if (forwardObjectArray[x].priority != Double.MAX_VALUE && alt + forwardObjectArray[x].priority < best) {
+								best = alt + forwardObjectArray[x].priority;
+								meeting = x;
+							}
+						}
+					}
+				}
+			}
+		}
+		
+		if (meeting == -1) {
+			return null;
+		}
+		
+		// the path in the hierarchy, shortcuts are unpacked afterwards
+		int hierarchyLength = 1;
+		for (int u = meeting; u != source; u = forwardPrevious[u]) {
+			++hierarchyLength;
+		}
+		int forwardLength = hierarchyLength - 1;
+		for (int u = meeting; u != target; u = backwardNext[u]) {
+			++hierarchyLength;
+		}
+		int[] hierarchyPath = new int[hierarchyLength];
+		int u = meeting;
+		for (int i = forwardLength; i >= 0; --i) {
+			hierarchyPath[i] = u;
+			u = forwardPrevious[u];
+		}
+		u = meeting;
+		for (int i = forwardLength + 1; i < hierarchyLength; ++i) {
+			u = backwardNext[u];
+			hierarchyPath[i] = u;
+		}
+		
+		int length = 0;
+		unpacked[length++] = source;
+		for (int i = 0; i + 1 < hierarchyLength; ++i) {
+			length = unpack(hierarchyPath[i], hierarchyPath[i + 1], unpacked, length);
+		}
+		int[] result = new int[length];
+		System.arraycopy(unpacked, 0, result, 0, length);
+		
+		return new Route(best, result, settledNodes);
+	}
+	
+	// appends the nodes after u on the original path of the arc u -> w
+	private int unpack(int u, int w, int[] path, int length) {
+		int middle = hierarchy.middle(u, w);
+		if (middle == -1) {
+			path[length++] = w;
+			return length;
+		}
+		length = unpack(u, middle, path, length);
+		return unpack(middle, w, path, length);
+	}
+	
+}
@@ -0,0 +1,272 @@
+package dijkstra.delta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import dijkstra.graph.ReverseNeighbourArrayGraph;
+
+public class DeltaStepping {
+	
+	// below this many nodes a relaxation task is not split any further
+	static final int THRESHOLD = 256;
+	
+	int[][] neighbours;
+	double[][] weights;
+	ReverseNeighbourArrayGraph reverse;
+	ForkJoinPool pool;
+	
+	// state of the running search, one search at a time per instance
+	AtomicLongArray distance;
+	double delta;
+	
+	public DeltaStepping(int[][] neighbours, double[][] weights, ForkJoinPool pool) {
+		this.neighbours = neighbours;
+		this.weights = weights;
+		this.pool = pool;
+		// the previous array is rebuilt from the incoming arcs of every node
+		reverse = new ReverseNeighbourArrayGraph(neighbours, weights);
+		distance = new AtomicLongArray(neighbours.length);
+	}
+	
+	// Meyer and Sanders: with about d arcs per node a bucket width of maxWeight / d keeps the re-relaxations low
+	public static double selectDelta(int[][] neighbours, double[][] weights) {
+		long arcs = 0;
+		double maxWeight = 0.0;
+		for (int u = 0; u < neighbours.length; ++u) {
+			if (neighbours[u] == null) {
+				continue;
+			}
+			arcs += neighbours[u].length;
+			for (int i = 0; i < weights[u].length; ++i) {
+				maxWeight = Math.max(maxWeight, weights[u][i]);
+			}
+		}
+		if (arcs == 0 || maxWeight == 0.0) {
+			return 1.0;
+		}
+		return maxWeight * neighbours.length / arcs;
+	}
+	
+	public void createPreviousArray(int source, double[] distanceArray, int[] previous) {
+		createPreviousArray(source, distanceArray, previous, selectDelta(neighbours, weights));
+	}
+	
+	public void createPreviousArray(int source, double[] distanceArray, int[] previous, double delta) {
+		
+		if (!(delta > 0.0)) {
+			throw new IllegalArgumentException("Delta must be positive: " + delta);
+		}
+		this.delta = delta;
+		
+		int size = neighbours.length;
+		long infinity = Double.doubleToLongBits(Double.MAX_VALUE);
+		for (int i = 0; i < size; ++i) {
+			distance.set(i, infinity);
+		}
+		distance.set(source, Double.doubleToLongBits(0.0));
+		
+		ArrayList<IntList> buckets = new ArrayList<>();
+		add(buckets, source, 0.0);
+		
+		// marks keep a node out of a frontier twice and out of the settled list twice
+		int[] frontierMark = new int[size];
+		int[] settledMark = new int[size];
+		Arrays.fill(frontierMark, -1);
+		Arrays.fill(settledMark, -1);
+		int phase = 0;
+		
+		for (int i = 0; i < buckets.size(); ++i) {
+			if (buckets.get(i) == null) {
+				continue;
+			}
+			IntList settled = new IntList();
+			
+			// light arcs can put nodes back into bucket i, so it is emptied repeatedly
+			while (buckets.get(i).size != 0) {
+				IntList bucket = buckets.get(i);
+				buckets.set(i, new IntList());
+				
+				IntList frontier = new IntList();
+				for (int k = 0; k < bucket.size; ++k) {
+					int v = bucket.values[k];
+					// entries left behind by a later improvement belong to another bucket
+					if (frontierMark[v] == phase || bucketIndex(current(v)) != i) {
+						continue;
+					}
+					frontierMark[v] = phase;
+					frontier.add(v);
+					if (settledMark[v] != i) {
+						settledMark[v] = i;
+						settled.add(v);
+					}
+				}
+				++phase;
+				
+				IntList changed = pool.invoke(new RelaxTask(frontier.values, 0, frontier.size, true));
+				for (int k = 0; k < changed.size; ++k) {
+					add(buckets, changed.values[k], current(changed.values[k]));
+				}
+			}
+			
+			// the distances of bucket i are final, the heavy arcs leave it for good
+			IntList changed = pool.invoke(new RelaxTask(settled.values, 0, settled.size, false));
+			for (int k = 0; k < changed.size; ++k) {
+				add(buckets, changed.values[k], current(changed.values[k]));
+			}
+			buckets.set(i, null);
+		}
+		
+		for (int v = 0; v < size; ++v) {
+			distanceArray[v] = current(v);
+		}
+		pool.invoke(new PreviousTask(source, distanceArray, previous, 0, size));
+	}
+	
+	private double current(int v) {
+		return Double.longBitsToDouble(distance.get(v));
+	}
+	
+	private int bucketIndex(double d) {
+		return (int)(d / delta);
+	}
+	
+	private void add(ArrayList<IntList> buckets, int v, double d) {
+		int index = bucketIndex(d);
+		while (buckets.size() <= index) {
+			buckets.add(new IntList());
+		}
+		if (buckets.get(index) == null) {
+			buckets.set(index, new IntList());
+		}
+		buckets.get(index).add(v);
+	}
+	
+	// true if the distance of v went down
+	private boolean atomicMin(int v, double value) {
+		long bits = Double.doubleToLongBits(value);
+		while (true) {
+			long current = distance.get(v);
+			if (Double.longBitsToDouble(current) <= value) {
+				return false;
+			}
+			if (distance.compareAndSet(v, current, bits)) {
+				return true;
+			}
+		}
+	}
+	
+	private class RelaxTask extends RecursiveTask<IntList> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		int[] nodes;
+		int from;
+		int to;
+		boolean light;
+		
+		RelaxTask(int[] nodes, int from, int to, boolean light) {
+			this.nodes = nodes;
+			this.from = from;
+			this.to = to;
+			this.light = light;
+		}
+		
+		@Override
+		protected IntList compute() {
+			if (to - from > THRESHOLD) {
+				int middle = (from + to) >>> 1;
+				RelaxTask left = new RelaxTask(nodes, from, middle, light);
+				left.fork();
+				IntList right = new RelaxTask(nodes, middle, to, light).compute();
+				IntList result = left.join();
+				result.addAll(right);
+				return result;
+			}
+			
+			IntList changed = new IntList();
+			for (int k = from; k < to; ++k) {
+				int u = nodes[k];
+				if (neighbours[u] == null) {
+					continue;
+				}
+				double d = current(u);
+				for (int i = 0; i < neighbours[u].length; ++i) {
+					double w = weights[u][i];
+					if ((w <= delta) == light && atomicMin(neighbours[u][i], d + w)) {
+						changed.add(neighbours[u][i]);
+					}
+				}
+			}
+			return changed;
+		}
+	}
+	
+	// previous[v] is the incoming neighbour that gives the distance of v, the one with the smallest distance on ties,
+	// which is the neighbour PriorityQueueDijkstra settles first
+	private class PreviousTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		int source;
+		double[] distanceArray;
+		int[] previous;
+		int from;
+		int to;
+		
+		PreviousTask(int source, double[] distanceArray, int[] previous, int from, int to) {
+			this.source = source;
+			this.distanceArray = distanceArray;
+			this.previous = previous;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute() {
+			if (to - from > THRESHOLD) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new PreviousTask(source, distanceArray, previous, from, middle), new PreviousTask(source, distanceArray, previous, middle, to));
+				return;
+			}
+			
+			for (int v = from; v < to; ++v) {
+				previous[v] = -1;
+				if (v == source || distanceArray[v] == Double.MAX_VALUE) {
+					continue;
+				}
+				for (int i = 0; i < reverse.neighbours[v].length; ++i) {
+					int u = reverse.neighbours[v][i];
+					if (distanceArray[u] + reverse.weights[v][i] == distanceArray[v] && (previous[v] == -1 || distanceArray[u] < distanceArray[previous[v]])) {
+						previous[v] = u;
+					}
+				}
+			}
+		}
+	}
+	
+	static class IntList {
+		
+		int[] values = new int[16];
+		int size;
+		
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+		
+		void addAll(IntList other) {
+			if (size + other.size > values.length) {
+				values = Arrays.copyOf(values, Math.max(size + other.size, values.length * 2));
+			}
+			System.arraycopy(other.values, 0, values, size, other.size);
+			size += other.size;
+		}
+	}
+	
+}
@@ -0,0 +1,91 @@
+package dijkstra.dense;
+
+import dijkstra.graph.AdjacencyMatrixGraph;
+
+public class DenseDijkstra {
+	
+	// O(n^2) with a linear minimum scan over primitive arrays, the right choice once the graph is dense
+	public static void createPreviousArray(int[][] neighbours, double[][] weights, int source, double[] distance, int[] previous, boolean[] settled) {
+		
+		int size = neighbours.length;
+		for (int i = 0; i < size; ++i) {
+			distance[i] = Double.MAX_VALUE;
+			previous[i] = -1;
+			settled[i] = false;
+		}
+		
+		distance[source] = 0.0;
+		
+		for (int k = 0; k < size; ++k) {
+			
+			// search the unsettled node where the distance is minimum
+			int u = -1;
+			double min = Double.MAX_VALUE;
+			for (int v = 0; v < size; ++v) {
+				if (!settled[v] && distance[v] < min) {
+					min = distance[v];
+					u = v;
+				}
+			}
+			
+			// the rest is unreachable
+			if (u == -1) {
+				break;
+			}
+			settled[u] = true;
+			
+			// find the neighbours
+			if (neighbours[u] == null) {
+				continue;
+			}
+			
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				int v = neighbours[u][i];
+				double alt = min + weights[u][i];
+				if (alt < distance[v]) {
+					distance[v] = alt;
+					previous[v] = u;
+				}
+			}
+		}
+	}
+	
+	// the relaxation of u is a scan of its row, fused with the search of the next minimum
+	public static void createPreviousArray(AdjacencyMatrixGraph graph, int source, double[] distance, int[] previous, boolean[] settled) {
+		
+		int size = graph.size;
+		double[] matrix = graph.matrix;
+		for (int i = 0; i < size; ++i) {
+			distance[i] = Double.MAX_VALUE;
+			previous[i] = -1;
+			settled[i] = false;
+		}
+		
+		distance[source] = 0.0;
+		int u = source;
+		
+		while (u != -1) {
+			settled[u] = true;
+			double d = distance[u];
+			int row = u * size;
+			
+			int next = -1;
+			double min = Double.MAX_VALUE;
+			for (int v = 0; v < size; ++v) {
+				// a missing arc gives at least Double.MAX_VALUE and settled nodes cannot improve,
+				// so neither needs a test of its own
+				double alt = d + matrix[row + v];
+				if (alt < distance[v]) {
+					distance[v] = alt;
+					previous[v] = u;
+				}
+				if (!settled[v] && distance[v] < min) {
+					min = distance[v];
+					next = v;
+				}
+			}
+			u = next;
+		}
+	}
+	
+}
@@ -0,0 +1,43 @@
+package dijkstra.graph;
+
+import java.util.Arrays;
+
+public class AdjacencyMatrixGraph {
+	
+	// weight of the arc u -> v is matrix[u * size + v], Double.MAX_VALUE if there is no arc
+	public double[] matrix;
+	public int size;
+	
+	public AdjacencyMatrixGraph(double[] matrix, int size) {
+		if (matrix.length != size * size) {
+			throw new IllegalArgumentException("Matrix of " + matrix.length + " entries for " + size + " nodes");
+		}
+		this.matrix = matrix;
+		this.size = size;
+	}
+	
+	public static AdjacencyMatrixGraph fromNeighbourArrays(int[][] neighbours, double[][] weights) {
+		int size = neighbours.length;
+		if ((long)size * size > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many nodes for one matrix: " + size);
+		}
+		double[] matrix = new double[size * size];
+		Arrays.fill(matrix, Double.MAX_VALUE);
+		for (int u = 0; u < size; ++u) {
+			if (neighbours[u] == null) {
+				continue;
+			}
+			// of parallel arcs only the cheapest one counts
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				int index = u * size + neighbours[u][i];
+				matrix[index] = Math.min(matrix[index], weights[u][i]);
+			}
+		}
+		return new AdjacencyMatrixGraph(matrix, size);
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+}
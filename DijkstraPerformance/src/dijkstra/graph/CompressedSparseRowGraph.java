@@ -0,0 +1,58 @@
+package dijkstra.graph;
+
+public class CompressedSparseRowGraph implements Graph {
+	
+	// arcs of node u are targets[offsets[u]] ... targets[offsets[u + 1] - 1] with the same indexes in weights
+	public int[] offsets;
+	public int[] targets;
+	public double[] weights;
+	
+	public CompressedSparseRowGraph(int[] offsets, int[] targets, double[] weights) {
+		this.offsets = offsets;
+		this.targets = targets;
+		this.weights = weights;
+	}
+	
+	public static CompressedSparseRowGraph fromNeighbourArrays(int[][] neighbours, double[][] weights) {
+		int[] offsets = new int[neighbours.length + 1];
+		for (int i = 0; i < neighbours.length; ++i) {
+			offsets[i + 1] = offsets[i] + (neighbours[i] == null ? 0 : neighbours[i].length);
+		}
+		
+		int[] targets = new int[offsets[neighbours.length]];
+		double[] arcWeights = new double[offsets[neighbours.length]];
+		for (int i = 0; i < neighbours.length; ++i) {
+			if (neighbours[i] == null) {
+				continue;
+			}
+			System.arraycopy(neighbours[i], 0, targets, offsets[i], neighbours[i].length);
+			System.arraycopy(weights[i], 0, arcWeights, offsets[i], neighbours[i].length);
+		}
+		
+		return new CompressedSparseRowGraph(offsets, targets, arcWeights);
+	}
+	
+	@Override
+	public int size() {
+		return offsets.length - 1;
+	}
+	
+	public int arcs() {
+		return targets.length;
+	}
+	
+	@Override
+	public long offset(int u) {
+		return offsets[u];
+	}
+	
+	@Override
+	public int target(long arc) {
+		return targets[(int)arc];
+	}
+	
+	@Override
+	public double weight(long arc) {
+		return weights[(int)arc];
+	}
+}
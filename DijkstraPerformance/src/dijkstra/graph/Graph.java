@@ -0,0 +1,15 @@
+package dijkstra.graph;
+
+// A graph in compressed sparse row form wherever its arrays live,
+// the arcs of node u are offset(u) .. offset(u + 1) - 1
+public interface Graph {
+	
+	int size();
+	
+	long offset(int u);
+	
+	int target(long arc);
+	
+	double weight(long arc);
+	
+}
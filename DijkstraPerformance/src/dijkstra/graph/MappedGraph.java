@@ -0,0 +1,187 @@
+package dijkstra.graph;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+// A graph in the binary format below, mapped into memory instead of read onto the heap.
+//
+// All values are little-endian, each section starts at a multiple of 8:
+//   header   MAGIC (int), VERSION (int), nodes (long), arcs (long), 8 reserved bytes
+//   offsets  nodes + 1 longs, arcs of node u are at offsets[u] .. offsets[u + 1] - 1
+//   targets  arcs ints, padded to a multiple of 8 bytes
+//   weights  arcs doubles
+public class MappedGraph implements Graph {
+	
+	static final int MAGIC = 0x44474631;
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 32;
+	
+	// a mapping is limited to 2 GB, so the file is mapped in chunks of 1 GB;
+	// the chunk size is a multiple of 8, so no value crosses two chunks
+	static final int CHUNK_BITS = 30;
+	static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+	
+	MappedByteBuffer[] chunks;
+	int nodes;
+	long arcs;
+	long offsetsStart;
+	long targetsStart;
+	long weightsStart;
+	
+	MappedGraph(MappedByteBuffer[] chunks, int nodes, long arcs) {
+		this.chunks = chunks;
+		this.nodes = nodes;
+		this.arcs = arcs;
+		offsetsStart = HEADER_BYTES;
+		targetsStart = offsetsStart + 8L * (nodes + 1);
+		weightsStart = align(targetsStart + 4L * arcs);
+	}
+	
+	public static void write(int[][] neighbours, double[][] weights, File file) throws IOException {
+		long arcs = 0;
+		for (int i = 0; i < neighbours.length; ++i) {
+			arcs += neighbours[i] == null ? 0 : neighbours[i].length;
+		}
+		
+		FileOutputStream output = new FileOutputStream(file);
+		try {
+			FileChannel channel = output.getChannel();
+			ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+			
+			buffer.putInt(MAGIC);
+			buffer.putInt(VERSION);
+			buffer.putLong(neighbours.length);
+			buffer.putLong(arcs);
+			buffer.putLong(0L);
+			
+			long offset = 0;
+			for (int i = 0; i < neighbours.length; ++i) {
+				ensure(channel, buffer, 8);
+				buffer.putLong(offset);
+				offset += neighbours[i] == null ? 0 : neighbours[i].length;
+			}
+			ensure(channel, buffer, 8);
+			buffer.putLong(offset);
+			
+			for (int i = 0; i < neighbours.length; ++i) {
+				if (neighbours[i] == null) {
+					continue;
+				}
+				for (int j = 0; j < neighbours[i].length; ++j) {
+					ensure(channel, buffer, 4);
+					buffer.putInt(neighbours[i][j]);
+				}
+			}
+			if (arcs % 2 != 0) {
+				ensure(channel, buffer, 4);
+				buffer.putInt(0);
+			}
+			
+			for (int i = 0; i < neighbours.length; ++i) {
+				if (neighbours[i] == null) {
+					continue;
+				}
+				for (int j = 0; j < neighbours[i].length; ++j) {
+					ensure(channel, buffer, 8);
+					buffer.putDouble(weights[i][j]);
+				}
+			}
+			
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} finally {
+			output.close();
+		}
+	}
+	
+	// only the header is read, the sections are paged in by the OS when the engine touches them;
+	// the mappings stay valid after the file is closed and are released when the graph is collected
+	public static MappedGraph open(File file) throws IOException {
+		RandomAccessFile input = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = input.getChannel();
+			long length = channel.size();
+			if (length < HEADER_BYTES) {
+				throw new IOException("Not a graph file");
+			}
+			
+			int count = (int)((length + CHUNK_MASK) >>> CHUNK_BITS);
+			MappedByteBuffer[] chunks = new MappedByteBuffer[count];
+			for (int i = 0; i < count; ++i) {
+				long position = (long)i << CHUNK_BITS;
+				chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(length - position, 1L << CHUNK_BITS));
+				chunks[i].order(ByteOrder.LITTLE_ENDIAN);
+			}
+			
+			ByteBuffer header = chunks[0];
+			if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+				throw new IOException("Not a graph file");
+			}
+			long nodes = header.getLong(8);
+			long arcs = header.getLong(16);
+			if (nodes < 0 || nodes >= Integer.MAX_VALUE || arcs < 0) {
+				throw new IOException("Corrupt graph header");
+			}
+			
+			MappedGraph graph = new MappedGraph(chunks, (int)nodes, arcs);
+			if (graph.weightsStart + 8L * arcs != length) {
+				throw new IOException("Corrupt graph file, expected " + (graph.weightsStart + 8L * arcs) + " bytes but it has " + length);
+			}
+			return graph;
+		} finally {
+			input.close();
+		}
+	}
+	
+	@Override
+	public int size() {
+		return nodes;
+	}
+	
+	public long arcs() {
+		return arcs;
+	}
+	
+	// first arc of u, the arcs of u end at offset(u + 1)
+	@Override
+	public long offset(int u) {
+		long position = offsetsStart + 8L * u;
+		return chunks[(int)(position >>> CHUNK_BITS)].getLong((int)(position & CHUNK_MASK));
+	}
+	
+	@Override
+	public int target(long arc) {
+		long position = targetsStart + 4L * arc;
+		return chunks[(int)(position >>> CHUNK_BITS)].getInt((int)(position & CHUNK_MASK));
+	}
+	
+	@Override
+	public double weight(long arc) {
+		long position = weightsStart + 8L * arc;
+		return chunks[(int)(position >>> CHUNK_BITS)].getDouble((int)(position & CHUNK_MASK));
+	}
+	
+	private static long align(long position) {
+		return (position + 7) & ~7L;
+	}
+	
+	// writes the buffer out when fewer than bytes are left in it
+	private static void ensure(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+		if (buffer.remaining() < bytes) {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+	}
+	
+}
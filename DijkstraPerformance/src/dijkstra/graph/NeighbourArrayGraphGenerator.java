@@ -8,8 +8,44 @@ public class NeighbourArrayGraphGenerator {
 	public int[][] neighbours;
 	public double[][] weights;
 	
+	// planar coordinates, only set by generateRandomGeometricGraph
+	public double[] x;
+	public double[] y;
+	
 	public void generateRandomGraph(int size, double p, Random random) {
 		
+		generateRandomNeighbours(size, p, random);
+		
+		// fill weights with random values
+		weights = createWeightsArray(neighbours, random);
+	}
+	
+	public void generateRandomGraph(int size, double p, int maxWeight, Random random) {
+		
+		generateRandomNeighbours(size, p, random);
+		
+		// fill weights with random integer values from [1, maxWeight]
+		weights = createIntegerWeightsArray(neighbours, maxWeight, random);
+	}
+	
+	public void generateRandomGeometricGraph(int size, double p, Random random) {
+		
+		// place the nodes in the unit square
+		x = new double[size];
+		y = new double[size];
+		for (int i = 0; i < size; ++i) {
+			x[i] = random.nextDouble();
+			y[i] = random.nextDouble();
+		}
+		
+		generateRandomNeighbours(size, p, random);
+		
+		// no arc is shorter than the straight line between its ends
+		weights = createGeometricWeightsArray(neighbours, x, y, random);
+	}
+	
+	private void generateRandomNeighbours(int size, double p, Random random) {
+		
 		HashSet<Integer>[] neighboursList = generateList(size);
 
 		// create random spanning tree
@@ -21,9 +57,6 @@ public class NeighbourArrayGraphGenerator {
 
 		// create neighbours array
 		neighbours = createNeighboursArrat(neighboursList);
-		
-		// fill weights with random values
-		weights = createWeightsArray(neighbours, random);
 	}
 	
 	@SuppressWarnings("unchecked")
@@ -93,6 +126,36 @@ public class NeighbourArrayGraphGenerator {
 		return weights;
 	}
 	
+	private double[][] createIntegerWeightsArray(int[][] neighbours, int maxWeight, Random random) {
+		double[][] weights = new double[neighbours.length][];
+		for (int i = 0; i < weights.length; ++i) {
+			if (neighbours[i] == null) {
+				continue;
+			}
+			weights[i] = new double[neighbours[i].length];
+			for (int j = 0; j < neighbours[i].length; ++j) {
+				weights[i][j] = 1 + random.nextInt(maxWeight);
+			}
+		}
+		return weights;
+	}
+	
+	private double[][] createGeometricWeightsArray(int[][] neighbours, double[] x, double[] y, Random random) {
+		double[][] weights = new double[neighbours.length][];
+		for (int i = 0; i < weights.length; ++i) {
+			if (neighbours[i] == null) {
+				continue;
+			}
+			weights[i] = new double[neighbours[i].length];
+			for (int j = 0; j < neighbours[i].length; ++j) {
+				int w = neighbours[i][j];
+				double distance = Math.hypot(x[i] - x[w], y[i] - y[w]);
+				weights[i][j] = distance * (1.0 + random.nextDouble());
+			}
+		}
+		return weights;
+	}
+	
 	private void addRandomArcs(int arcs, HashSet<Integer>[] neighboursList, Random random) {
 		int size = neighboursList.length;
 		for (int i = 0; i < arcs; ++i) {
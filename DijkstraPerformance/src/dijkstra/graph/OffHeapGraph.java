@@ -0,0 +1,81 @@
+package dijkstra.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+// The compressed sparse row arrays in direct buffers, so the garbage collector sees three small
+// objects instead of the arrays; the memory is freed when the graph is collected
+public class OffHeapGraph implements Graph {
+	
+	LongBuffer offsets;
+	IntBuffer targets;
+	DoubleBuffer weights;
+	int nodes;
+	
+	public OffHeapGraph(int nodes, long arcs) {
+		// a direct buffer holds at most Integer.MAX_VALUE bytes
+		if (arcs > Integer.MAX_VALUE / 8 || nodes >= Integer.MAX_VALUE / 8) {
+			throw new IllegalArgumentException("Graph too large for direct buffers: " + nodes + " nodes, " + arcs + " arcs");
+		}
+		this.nodes = nodes;
+		offsets = allocate(8 * (nodes + 1)).asLongBuffer();
+		targets = allocate(4 * (int)arcs).asIntBuffer();
+		weights = allocate(8 * (int)arcs).asDoubleBuffer();
+	}
+	
+	public static OffHeapGraph fromNeighbourArrays(int[][] neighbours, double[][] weights) {
+		long arcs = 0;
+		for (int i = 0; i < neighbours.length; ++i) {
+			arcs += neighbours[i] == null ? 0 : neighbours[i].length;
+		}
+		
+		OffHeapGraph graph = new OffHeapGraph(neighbours.length, arcs);
+		int offset = 0;
+		for (int i = 0; i < neighbours.length; ++i) {
+			graph.offsets.put(i, offset);
+			if (neighbours[i] == null) {
+				continue;
+			}
+			for (int j = 0; j < neighbours[i].length; ++j) {
+				graph.targets.put(offset + j, neighbours[i][j]);
+				graph.weights.put(offset + j, weights[i][j]);
+			}
+			offset += neighbours[i].length;
+		}
+		graph.offsets.put(neighbours.length, offset);
+		
+		return graph;
+	}
+	
+	@Override
+	public int size() {
+		return nodes;
+	}
+	
+	public long arcs() {
+		return targets.capacity();
+	}
+	
+	@Override
+	public long offset(int u) {
+		return offsets.get(u);
+	}
+	
+	@Override
+	public int target(long arc) {
+		return targets.get((int)arc);
+	}
+	
+	@Override
+	public double weight(long arc) {
+		return weights.get((int)arc);
+	}
+	
+	private static ByteBuffer allocate(int bytes) {
+		return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+	}
+	
+}
@@ -0,0 +1,40 @@
+package dijkstra.graph;
+
+public class ReverseNeighbourArrayGraph {
+	
+	// neighbours[v] holds the sources of the arcs pointing to v
+	public int[][] neighbours;
+	public double[][] weights;
+	
+	public ReverseNeighbourArrayGraph(int[][] forwardNeighbours, double[][] forwardWeights) {
+		int[] inDegree = new int[forwardNeighbours.length];
+		for (int u = 0; u < forwardNeighbours.length; ++u) {
+			if (forwardNeighbours[u] == null) {
+				continue;
+			}
+			for (int i = 0; i < forwardNeighbours[u].length; ++i) {
+				++inDegree[forwardNeighbours[u][i]];
+			}
+		}
+		
+		neighbours = new int[forwardNeighbours.length][];
+		weights = new double[forwardNeighbours.length][];
+		for (int v = 0; v < forwardNeighbours.length; ++v) {
+			neighbours[v] = new int[inDegree[v]];
+			weights[v] = new double[inDegree[v]];
+			inDegree[v] = 0;
+		}
+		
+		for (int u = 0; u < forwardNeighbours.length; ++u) {
+			if (forwardNeighbours[u] == null) {
+				continue;
+			}
+			for (int i = 0; i < forwardNeighbours[u].length; ++i) {
+				int v = forwardNeighbours[u][i];
+				neighbours[v][inDegree[v]] = u;
+				weights[v][inDegree[v]] = forwardWeights[u][i];
+				++inDegree[v];
+			}
+		}
+	}
+}
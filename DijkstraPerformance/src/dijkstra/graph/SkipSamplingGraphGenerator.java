@@ -0,0 +1,119 @@
+package dijkstra.graph;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class SkipSamplingGraphGenerator {
+	
+	public int[][] neighbours;
+	public double[][] weights;
+	
+	public void generateRandomGraph(int size, double p, Random random) {
+		
+		// create random spanning tree, stored as undirected adjacency in compressed rows
+		int[] treeOffsets = new int[size + 1];
+		int[] treeTargets = generateSpanningTree(size, treeOffsets, random);
+		
+		// every other arc is added independently with the same probability
+		double q = calculateArcProbability(size, p);
+		double logOneMinusQ = Math.log(1.0 - q);
+		
+		neighbours = new int[size][];
+		weights = new double[size][];
+		
+		// stamp[v] == u marks the tree neighbours of u while row u is sampled
+		int[] stamp = new int[size];
+		Arrays.fill(stamp, -1);
+		int[] row = new int[16];
+		
+		for (int u = 0; u < size; ++u) {
+			int rowSize = 0;
+			for (int i = treeOffsets[u]; i < treeOffsets[u + 1]; ++i) {
+				if (rowSize == row.length) {
+					row = Arrays.copyOf(row, row.length * 2);
+				}
+				row[rowSize++] = treeTargets[i];
+				stamp[treeTargets[i]] = u;
+			}
+			
+			if (q > 0.0) {
+				// geometric skip sampling: jump straight to the next selected candidate target
+				int v = -1;
+				while (true) {
+					double skip = q >= 1.0 ? 0.0 : Math.floor(Math.log(1.0 - random.nextDouble()) / logOneMinusQ);
+					if (v + 1 + skip >= size) {
+						break;
+					}
+					v += 1 + (int)skip;
+					if (v == u || stamp[v] == u) {
+						continue;
+					}
+					if (rowSize == row.length) {
+						row = Arrays.copyOf(row, row.length * 2);
+					}
+					row[rowSize++] = v;
+				}
+			}
+			
+			neighbours[u] = Arrays.copyOf(row, rowSize);
+			
+			// fill weights with random values
+			weights[u] = new double[rowSize];
+			for (int i = 0; i < rowSize; ++i) {
+				weights[u][i] = random.nextDouble();
+			}
+		}
+	}
+	
+	public static double calculateArcProbability(int size, double p) {
+		// same expected number of arcs as NeighbourArrayGraphGenerator: size * size * p including the tree arcs
+		double candidates = (double)(size - 1) * (size - 2);
+		if (candidates <= 0.0) {
+			return 0.0;
+		}
+		double q = ((double)size * size * p - (size - 1) * 2.0) / candidates;
+		return Math.max(0.0, Math.min(1.0, q));
+	}
+	
+	private int[] generateSpanningTree(int size, int[] offsets, Random random) {
+		// random recursive tree over a random permutation of the nodes
+		int[] permutation = new int[size];
+		for (int i = 0; i < size; ++i) {
+			permutation[i] = i;
+		}
+		for (int i = size - 1; i > 0; --i) {
+			int j = random.nextInt(i + 1);
+			int swap = permutation[i];
+			permutation[i] = permutation[j];
+			permutation[j] = swap;
+		}
+		
+		int[] parent = new int[size];
+		if (size > 0) {
+			parent[permutation[0]] = -1;
+		}
+		for (int i = 1; i < size; ++i) {
+			parent[permutation[i]] = permutation[random.nextInt(i)];
+		}
+		
+		// every tree edge becomes an arc in both directions
+		for (int v = 0; v < size; ++v) {
+			if (parent[v] != -1) {
+				++offsets[v + 1];
+				++offsets[parent[v] + 1];
+			}
+		}
+		for (int v = 0; v < size; ++v) {
+			offsets[v + 1] += offsets[v];
+		}
+		int[] targets = new int[offsets[size]];
+		int[] fill = Arrays.copyOf(offsets, size);
+		for (int v = 0; v < size; ++v) {
+			if (parent[v] != -1) {
+				targets[fill[v]++] = parent[v];
+				targets[fill[parent[v]]++] = v;
+			}
+		}
+		return targets;
+	}
+}
@@ -0,0 +1,121 @@
+package dijkstra.hub;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public class HubLabels {
+	
+	static final int MAGIC = 0x48554231;
+	
+	// order[r] is the node with rank r, the hubs in the labels are ranks
+	public int[] order;
+	
+	// out-label of v: hubs reachable from v, in outHubs[outOffsets[v]] .. outHubs[outOffsets[v + 1] - 1]
+	public int[] outOffsets;
+	public int[] outHubs;
+	public double[] outDistances;
+	
+	// in-label of v: hubs that reach v
+	public int[] inOffsets;
+	public int[] inHubs;
+	public double[] inDistances;
+	
+	public int size() {
+		return order.length;
+	}
+	
+	public int entries() {
+		return outHubs.length + inHubs.length;
+	}
+	
+	// both labels are sorted by hub rank, so the common hubs are found by a merge
+	public double distance(int source, int target) {
+		int i = outOffsets[source];
+		int iEnd = outOffsets[source + 1];
+		int j = inOffsets[target];
+		int jEnd = inOffsets[target + 1];
+		
+		double distance = Double.MAX_VALUE;
+		while (i < iEnd && j < jEnd) {
+			int a = outHubs[i];
+			int b = inHubs[j];
+			if (a == b) {
+				double alt = outDistances[i] + inDistances[j];
+				if (alt < distance) {
+					distance = alt;
+				}
+				++i;
+				++j;
+			} else if (a < b) {
+				++i;
+			} else {
+				++j;
+			}
+		}
+		return distance;
+	}
+	
+	public void save(DataOutputStream output) throws IOException {
+		output.writeInt(MAGIC);
+		output.writeInt(order.length);
+		output.writeInt(outHubs.length);
+		output.writeInt(inHubs.length);
+		writeInts(output, order);
+		writeInts(output, outOffsets);
+		writeInts(output, outHubs);
+		writeDoubles(output, outDistances);
+		writeInts(output, inOffsets);
+		writeInts(output, inHubs);
+		writeDoubles(output, inDistances);
+		output.flush();
+	}
+	
+	public static HubLabels load(DataInputStream input) throws IOException {
+		if (input.readInt() != MAGIC) {
+			throw new IOException("Not a hub label file");
+		}
+		int size = input.readInt();
+		int outEntries = input.readInt();
+		int inEntries = input.readInt();
+		
+		HubLabels labels = new HubLabels();
+		labels.order = readInts(input, size);
+		labels.outOffsets = readInts(input, size + 1);
+		labels.outHubs = readInts(input, outEntries);
+		labels.outDistances = readDoubles(input, outEntries);
+		labels.inOffsets = readInts(input, size + 1);
+		labels.inHubs = readInts(input, inEntries);
+		labels.inDistances = readDoubles(input, inEntries);
+		return labels;
+	}
+	
+	private static void writeInts(DataOutputStream output, int[] values) throws IOException {
+		for (int i = 0; i < values.length; ++i) {
+			output.writeInt(values[i]);
+		}
+	}
+	
+	private static void writeDoubles(DataOutputStream output, double[] values) throws IOException {
+		for (int i = 0; i < values.length; ++i) {
+			output.writeDouble(values[i]);
+		}
+	}
+	
+	private static int[] readInts(DataInputStream input, int length) throws IOException {
+		int[] values = new int[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = input.readInt();
+		}
+		return values;
+	}
+	
+	private static double[] readDoubles(DataInputStream input, int length) throws IOException {
+		double[] values = new double[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = input.readDouble();
+		}
+		return values;
+	}
+	
+}
@@ -0,0 +1,184 @@
+package dijkstra.hub;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import dijkstra.graph.ReverseNeighbourArrayGraph;
+import dijkstra.indexed.IndexedBinaryHeap;
+
+public class PrunedLandmarkLabeling {
+	
+	int size;
+	
+	// labels while they grow, flattened at the end
+	int[][] hubs;
+	double[][] distances;
+	int[] lengths;
+	
+	PrunedLandmarkLabeling(int size) {
+		this.size = size;
+		hubs = new int[size][];
+		distances = new double[size][];
+		lengths = new int[size];
+		for (int v = 0; v < size; ++v) {
+			hubs[v] = new int[4];
+			distances[v] = new double[4];
+		}
+	}
+	
+	// nodes with the most arcs are the hubs of the first, largest searches
+	public static HubLabels build(int[][] neighbours, double[][] weights) {
+		
+		final int size = neighbours.length;
+		ReverseNeighbourArrayGraph reverse = new ReverseNeighbourArrayGraph(neighbours, weights);
+		
+		final int[] degree = new int[size];
+		Integer[] sorted = new Integer[size];
+		for (int v = 0; v < size; ++v) {
+			degree[v] = (neighbours[v] == null ? 0 : neighbours[v].length) + reverse.neighbours[v].length;
+			sorted[v] = v;
+		}
+		Arrays.sort(sorted, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				return degree[a] != degree[b] ? degree[b] - degree[a] : a - b;
+			}
+		});
+		int[] order = new int[size];
+		for (int r = 0; r < size; ++r) {
+			order[r] = sorted[r];
+		}
+		
+		PrunedLandmarkLabeling in = new PrunedLandmarkLabeling(size);
+		PrunedLandmarkLabeling out = new PrunedLandmarkLabeling(size);
+		
+		IndexedBinaryHeap heap = new IndexedBinaryHeap(size);
+		double[] distance = new double[size];
+		Arrays.fill(distance, Double.MAX_VALUE);
+		int[] touched = new int[size];
+		
+		// label distances of the current hub by rank, so a pruning test is one scan of the other label
+		double[] hubDistance = new double[size];
+		Arrays.fill(hubDistance, Double.MAX_VALUE);
+		
+		for (int r = 0; r < size; ++r) {
+			int v = order[r];
+			
+			// forward search: d(v, u) goes into the in-label of u
+			out.scatter(v, hubDistance);
+			prunedSearch(neighbours, weights, r, v, in, hubDistance, heap, distance, touched);
+			out.gather(v, hubDistance);
+			
+			// backward search: d(u, v) goes into the out-label of u
+			in.scatter(v, hubDistance);
+			prunedSearch(reverse.neighbours, reverse.weights, r, v, out, hubDistance, heap, distance, touched);
+			in.gather(v, hubDistance);
+		}
+		
+		HubLabels labels = new HubLabels();
+		labels.order = order;
+		labels.outOffsets = out.offsets();
+		labels.outHubs = out.flatHubs(labels.outOffsets);
+		labels.outDistances = out.flatDistances(labels.outOffsets);
+		labels.inOffsets = in.offsets();
+		labels.inHubs = in.flatHubs(labels.inOffsets);
+		labels.inDistances = in.flatDistances(labels.inOffsets);
+		return labels;
+	}
+	
+	private static void prunedSearch(int[][] neighbours, double[][] weights, int rank, int source, PrunedLandmarkLabeling labels, double[] hubDistance, IndexedBinaryHeap heap, double[] distance, int[] touched) {
+		int touchedCount = 0;
+		heap.clear();
+		heap.insert(source, 0.0);
+		distance[source] = 0.0;
+		touched[touchedCount++] = source;
+		
+		while (heap.size() != 0) {
+			int u = heap.extractMin();
+			double d = distance[u];
+			
+			// the labels of the hubs with smaller rank already cover u
+			if (labels.query(u, hubDistance) <= d) {
+				continue;
+			}
+			labels.append(u, rank, d);
+			
+			if (neighbours[u] == null) {
+				continue;
+			}
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				int w = neighbours[u][i];
+				double alt = d + weights[u][i];
+				if (alt < distance[w]) {
+					if (distance[w] == Double.MAX_VALUE) {
+						touched[touchedCount++] = w;
+					}
+					distance[w] = alt;
+					heap.insertOrDecrease(w, alt);
+				}
+			}
+		}
+		
+		for (int i = 0; i < touchedCount; ++i) {
+			distance[touched[i]] = Double.MAX_VALUE;
+		}
+	}
+	
+	private double query(int u, double[] hubDistance) {
+		double best = Double.MAX_VALUE;
+		for (int i = 0; i < lengths[u]; ++i) {
+			double h = hubDistance[hubs[u][i]];
+			if (h != Double.MAX_VALUE && h + distances[u][i] < best) {
+				best = h + distances[u][i];
+			}
+		}
+		return best;
+	}
+	
+	private void append(int u, int hub, double distance) {
+		if (lengths[u] == hubs[u].length) {
+			hubs[u] = Arrays.copyOf(hubs[u], lengths[u] * 2);
+			distances[u] = Arrays.copyOf(distances[u], lengths[u] * 2);
+		}
+		hubs[u][lengths[u]] = hub;
+		distances[u][lengths[u]] = distance;
+		++lengths[u];
+	}
+	
+	private void scatter(int v, double[] hubDistance) {
+		for (int i = 0; i < lengths[v]; ++i) {
+			hubDistance[hubs[v][i]] = distances[v][i];
+		}
+	}
+	
+	private void gather(int v, double[] hubDistance) {
+		for (int i = 0; i < lengths[v]; ++i) {
+			hubDistance[hubs[v][i]] = Double.MAX_VALUE;
+		}
+	}
+	
+	private int[] offsets() {
+		int[] offsets = new int[size + 1];
+		for (int v = 0; v < size; ++v) {
+			offsets[v + 1] = offsets[v] + lengths[v];
+		}
+		return offsets;
+	}
+	
+	private int[] flatHubs(int[] offsets) {
+		int[] flat = new int[offsets[size]];
+		for (int v = 0; v < size; ++v) {
+			System.arraycopy(hubs[v], 0, flat, offsets[v], lengths[v]);
+		}
+		return flat;
+	}
+	
+	private double[] flatDistances(int[] offsets) {
+		double[] flat = new double[offsets[size]];
+		for (int v = 0; v < size; ++v) {
+			System.arraycopy(distances[v], 0, flat, offsets[v], lengths[v]);
+		}
+		return flat;
+	}
+	
+}
@@ -0,0 +1,117 @@
+package dijkstra.indexed;
+
+public class IndexedBinaryHeap {
+	
+	// heap[i] is the node at the i. position, keys and positions are indexed by node id
+	int[] heap;
+	double[] keys;
+	int[] positions;
+	int size;
+	
+	public IndexedBinaryHeap(int capacity) {
+		heap = new int[capacity];
+		keys = new double[capacity];
+		positions = new int[capacity];
+		for (int i = 0; i < capacity; ++i) {
+			positions[i] = -1;
+		}
+		size = 0;
+	}
+	
+	public void insert(int node, double key) {
+		keys[node] = key;
+		heap[size] = node;
+		positions[node] = size;
+		++size;
+		siftUp(size - 1);
+	}
+	
+	public void decreaseKey(int node, double key) {
+		keys[node] = key;
+		siftUp(positions[node]);
+	}
+	
+	public void insertOrDecrease(int node, double key) {
+		if (positions[node] == -1) {
+			insert(node, key);
+		} else {
+			decreaseKey(node, key);
+		}
+	}
+	
+	public boolean contains(int node) {
+		return positions[node] != -1;
+	}
+	
+	public double key(int node) {
+		return keys[node];
+	}
+	
+	public int extractMin() {
+		if (size == 0) {
+			return -1;
+		}
+		int min = heap[0];
+		positions[min] = -1;
+		--size;
+		if (size > 0) {
+			int last = heap[size];
+			heap[0] = last;
+			positions[last] = 0;
+			siftDown(0);
+		}
+		return min;
+	}
+	
+	public void clear() {
+		// only the nodes still in the heap have a position to reset
+		for (int i = 0; i < size; ++i) {
+			positions[heap[i]] = -1;
+		}
+		size = 0;
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	private void siftUp(int position) {
+		int node = heap[position];
+		double key = keys[node];
+		while (position > 0) {
+			int parentPosition = (position - 1) >>> 1;
+			int parent = heap[parentPosition];
+			if (keys[parent] <= key) {
+				break;
+			}
+			heap[position] = parent;
+			positions[parent] = position;
+			position = parentPosition;
+		}
+		heap[position] = node;
+		positions[node] = position;
+	}
+	
+	private void siftDown(int position) {
+		int node = heap[position];
+		double key = keys[node];
+		int half = size >>> 1;
+		while (position < half) {
+			int childPosition = 2 * position + 1;
+			int child = heap[childPosition];
+			int rightPosition = childPosition + 1;
+			if (rightPosition < size && keys[heap[rightPosition]] < keys[child]) {
+				childPosition = rightPosition;
+				child = heap[childPosition];
+			}
+			if (key <= keys[child]) {
+				break;
+			}
+			heap[position] = child;
+			positions[child] = position;
+			position = childPosition;
+		}
+		heap[position] = node;
+		positions[node] = position;
+	}
+}
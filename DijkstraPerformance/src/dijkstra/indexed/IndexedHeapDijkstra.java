@@ -0,0 +1,71 @@
+package dijkstra.indexed;
+
+import dijkstra.workspace.EpochWorkspace;
+
+public class IndexedHeapDijkstra {
+	
+	public static void createPreviousArray(int[][] neighbours, double[][] weights, int source, double[] distance, int[] previous, IndexedBinaryHeap heap) {
+		
+		for (int i = 0; i < distance.length; ++i) {
+			distance[i] = Double.MAX_VALUE;
+			previous[i] = -1;
+		}
+		
+		distance[source] = 0.0;
+		
+		heap.clear();
+		heap.insert(source, 0.0);
+		
+		while (heap.size() != 0) {
+			
+			// extract min
+			int u = heap.extractMin();
+			
+			// find the neighbours
+			if (neighbours[u] == null) {
+				continue;
+			}
+			
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				int v = neighbours[u][i];
+				double alt = distance[u] + weights[u][i];
+				if (alt < distance[v]) {
+					distance[v] = alt;
+					previous[v] = u;
+					heap.insertOrDecrease(v, alt);
+				}
+			}
+		}
+	}
+	
+	public static void createPreviousArray(int[][] neighbours, double[][] weights, int source, EpochWorkspace workspace, IndexedBinaryHeap heap) {
+		
+		// no O(n) reset, nodes the search does not reach read as Double.MAX_VALUE / -1
+		workspace.nextQuery();
+		workspace.set(source, 0.0, -1);
+		
+		heap.clear();
+		heap.insert(source, 0.0);
+		
+		while (heap.size() != 0) {
+			
+			// extract min
+			int u = heap.extractMin();
+			
+			// find the neighbours
+			if (neighbours[u] == null) {
+				continue;
+			}
+			
+			double d = workspace.distance[u];
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				int v = neighbours[u][i];
+				double alt = d + weights[u][i];
+				if (alt < workspace.distance(v)) {
+					workspace.set(v, alt, u);
+					heap.insertOrDecrease(v, alt);
+				}
+			}
+		}
+	}
+}
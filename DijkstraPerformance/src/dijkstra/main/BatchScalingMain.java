@@ -0,0 +1,44 @@
+package dijkstra.main;
+
+public class BatchScalingMain extends DijkstraPerformanceBase {
+	
+	// powers of two up to the number of cores
+	int[] parallelisms;
+	
+	public static void main(String[] args) {
+		new BatchScalingMain().run();
+	}
+	
+	private void run() {
+		parallelisms = parallelismsUpToCores();
+		
+		runWithConstantP(0.01);
+		runWithConstantP(0.05);
+	}
+	
+	private void runWithConstantP(double p) {
+		int n = 10;
+		
+		double[][] results = new double[n][];
+		for (int i = 0; i < n; ++i) {
+			results[i] = batchMeasurement(1000 + 1000 * i, p, parallelisms);
+		}
+		// columns: size, p, arcs, single-threaded time, then the speedup for every parallelism
+		for (int i = 0; i < n; ++i) {
+			if (results[i] == null) {
+				continue;
+			}
+			for (int j = 0; j < 4; ++j) {
+				System.out.print(results[i][j]);
+				System.out.print(",");
+			}
+			for (int j = 4; j < results[i].length; ++j) {
+				System.out.print(results[i][3] / results[i][j]);
+				System.out.print(",");
+			}
+			System.out.println();
+		}
+		
+	}
+
+}
@@ -0,0 +1,36 @@
+package dijkstra.main;
+
+public class ContractionHierarchyAnalysisMain extends DijkstraPerformanceBase {
+	
+	public static void main(String[] args) {
+		new ContractionHierarchyAnalysisMain().run();
+	}
+	
+	// random graphs have no hierarchy to exploit, so the preprocessing only stays affordable when they are sparse
+	private void run() {
+		runWithConstantP(0.005);
+		runWithConstantP(0.01);
+		runWithConstantP(0.02);
+	}
+	
+	private void runWithConstantP(double p) {
+		int n = 99;
+		
+		double[][] results = new double[n][];
+		for (int i = 0; i < n; ++i) {
+			results[i] = contractionHierarchyMeasurement(10 + 10 * i, p);
+		}
+		for (int i = 0; i < n; ++i) {
+			if (results[i] == null) {
+				continue;
+			}
+			for (int j = 0; j < results[i].length; ++j) {
+				System.out.print(results[i][j]);
+				System.out.print(",");
+			}
+			System.out.println();
+		}
+		
+	}
+
+}
@@ -0,0 +1,36 @@
+package dijkstra.main;
+
+public class DensityCrossoverMain extends DijkstraPerformanceBase {
+	
+	public static void main(String[] args) {
+		new DensityCrossoverMain().run();
+	}
+	
+	private void run() {
+		runWithConstantSize(250);
+		runWithConstantSize(500);
+		runWithConstantSize(1000);
+	}
+	
+	// p goes up to 0.9, the generator cannot place arcs much beyond that
+	private void runWithConstantSize(int size) {
+		int n = 18;
+		
+		double[][] results = new double[n][];
+		for (int i = 0; i < n; ++i) {
+			results[i] = denseMeasurement(size, 0.05 + 0.05 * i);
+		}
+		for (int i = 0; i < n; ++i) {
+			if (results[i] == null) {
+				continue;
+			}
+			for (int j = 0; j < results[i].length; ++j) {
+				System.out.print(results[i][j]);
+				System.out.print(",");
+			}
+			System.out.println();
+		}
+		
+	}
+
+}
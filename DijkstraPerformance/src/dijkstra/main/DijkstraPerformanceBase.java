@@ -1,17 +1,38 @@
 package dijkstra.main;
 
+import java.io.File;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
+import dijkstra.alt.LandmarkHeuristic;
+import dijkstra.alt.LandmarkPreprocessing;
+import dijkstra.alt.LandmarkSelection;
+
+import dijkstra.graph.NeighbourArrayGraphGenerator;
 import dijkstra.performance.PerformanceEngine;
 import dijkstra.performance.PerformanceScenario;
-import dijkstra.performance.scenario.RandomBaseScenario;
-import dijkstra.performance.scenario.RandomGrowingWithTheWebFibonacciPriorityQueueScenario;
-import dijkstra.performance.scenario.RandomKeithschwarzFibonacciPriorityQueueScenario;
-import dijkstra.performance.scenario.RandomNeo4jFibonacciPriorityQueueScenario;
-import dijkstra.performance.scenario.RandomNutchFibonacciPriorityQueueScenario;
-import dijkstra.performance.scenario.RandomPengyifanFibonacciPriorityQueueScenario;
-import dijkstra.performance.scenario.RandomTeneightyFibonacciPriorityQueueScenario;
-import dijkstra.performance.scenario.RandomTreeSetPriorityQueueScenario;
+import dijkstra.performance.scenario.PriorityQueueFactories;
+import dijkstra.performance.scenario.SharedGraph;
+import dijkstra.performance.scenario.SharedGraphAStarScenario;
+import dijkstra.performance.scenario.SharedGraphBaseScenario;
+import dijkstra.performance.scenario.SharedGraphBatchScenario;
+import dijkstra.performance.scenario.SharedGraphContractionHierarchyScenario;
+import dijkstra.performance.scenario.SharedGraphDeltaSteppingScenario;
+import dijkstra.performance.scenario.SharedGraphDenseScenario;
+import dijkstra.performance.scenario.SharedGraphDialScenario;
+import dijkstra.performance.scenario.SharedGraphDistanceMatrixScenario;
+import dijkstra.performance.scenario.SharedGraphEpochPointToPointScenario;
+import dijkstra.performance.scenario.SharedGraphHubLabelScenario;
+import dijkstra.performance.scenario.SharedGraphIndexedBinaryHeapScenario;
+import dijkstra.performance.scenario.SharedGraphMappedScenario;
+import dijkstra.performance.scenario.SharedGraphOffHeapScenario;
+import dijkstra.performance.scenario.SharedGraphPointToPointScenario;
+import dijkstra.performance.scenario.SharedGraphPriorityQueueScenario;
 
 public class DijkstraPerformanceBase {
 		
@@ -19,18 +40,45 @@ public class DijkstraPerformanceBase {
 		return Math.max((int)Math.round(size * size * p) - (size - 1) * 2, (size - 1) * 2);
 	}
 		
+	// powers of two up to the number of cores, the last one being the number of cores
+	protected int[] parallelismsUpToCores() {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int count = 1;
+		for (int k = 1; k < cores; k *= 2) {
+			++count;
+		}
+		int[] parallelisms = new int[count];
+		int k = 1;
+		for (int i = 0; i < count - 1; ++i, k *= 2) {
+			parallelisms[i] = k;
+		}
+		parallelisms[count - 1] = cores;
+		return parallelisms;
+	}
+	
 	protected double[] parameterizedMeasurement(int size, double p) {
+		return parameterizedMeasurement(size, p, new int[0]);
+	}
+	
+	protected double[] parameterizedMeasurement(int size, double p, int[] arities) {
 		
 		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p));
 		
-		PerformanceScenario scenarioBase = new RandomBaseScenario(size, p, 20, new Random(42));
-		PerformanceScenario scenarioPriorityQueue = new RandomTreeSetPriorityQueueScenario(size, p, 20, new Random(42));
-		PerformanceScenario scenarioNeo4jFibonacciPriorityQueue = new RandomNeo4jFibonacciPriorityQueueScenario(size, p, 20, new Random(42));
-		PerformanceScenario scenarioNutchFibonacciPriorityQueue = new RandomNutchFibonacciPriorityQueueScenario(size, p, 20, new Random(42));
-		PerformanceScenario scenarioTeneightyFibonacciPriorityQueue = new RandomTeneightyFibonacciPriorityQueueScenario(size, p, 20, new Random(42));
-		PerformanceScenario scenarioGrowingWithTheWebFibonacciPriorityQueue = new RandomGrowingWithTheWebFibonacciPriorityQueueScenario(size, p, 20, new Random(42));
-		PerformanceScenario scenarioPengyifanFibonacciPriorityQueue = new RandomPengyifanFibonacciPriorityQueueScenario(size, p, 20, new Random(42));
-		PerformanceScenario scenarioKeithschwarzFibonacciPriorityQueue = new RandomKeithschwarzFibonacciPriorityQueueScenario(size, p, 20, new Random(42));
+		// every implementation runs on the same graph from the same origins
+		SharedGraph graph = new SharedGraph(size, p, 20, new Random(42));
+		
+		PerformanceScenario scenarioBase = new SharedGraphBaseScenario(graph);
+		PerformanceScenario scenarioPriorityQueue = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.TREE_SET, PriorityQueueFactories.PRIORITY_OBJECTS);
+		PerformanceScenario scenarioNeo4jFibonacciPriorityQueue = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.NEO4J, PriorityQueueFactories.NEO4J_OBJECTS);
+		PerformanceScenario scenarioNutchFibonacciPriorityQueue = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.NUTCH, PriorityQueueFactories.PRIORITY_OBJECTS);
+		PerformanceScenario scenarioTeneightyFibonacciPriorityQueue = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.TENEIGHTY, PriorityQueueFactories.TENEIGHTY_OBJECTS);
+//		PerformanceScenario scenarioGrowingWithTheWebFibonacciPriorityQueue = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.GROWING_WITH_THE_WEB, PriorityQueueFactories.GROWING_WITH_THE_WEB_OBJECTS);
+//		PerformanceScenario scenarioPengyifanFibonacciPriorityQueue = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.PENGYIFAN, PriorityQueueFactories.PENGYIFAN_OBJECTS);
+		PerformanceScenario scenarioKeithschwarzFibonacciPriorityQueue = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.KEITHSCHWARZ, PriorityQueueFactories.KEITHSCHWARZ_OBJECTS);
+		PerformanceScenario scenarioIndexedBinaryHeap = new SharedGraphIndexedBinaryHeapScenario(graph);
+		PerformanceScenario scenarioPairingHeapPriorityQueue = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS);
+		PerformanceScenario scenarioRadixHeapPriorityQueue = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.RADIX_HEAP, PriorityQueueFactories.PRIORITY_OBJECTS);
+		PerformanceScenario scenarioLazyTeneightyFibonacciPriorityQueue = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.TENEIGHTY, PriorityQueueFactories.TENEIGHTY_OBJECTS, true);
 	
 		int[] p0 = scenarioBase.testPrevious(42);
 		PerformanceEngine engine0 = new PerformanceEngine(scenarioBase);
@@ -64,13 +112,521 @@ public class DijkstraPerformanceBase {
 		PerformanceEngine engine7 = new PerformanceEngine(scenarioKeithschwarzFibonacciPriorityQueue);
 		double m7 = engine7.measurement(20, true, false, 3, 3);
 		
+		int[] p8 = scenarioIndexedBinaryHeap.testPrevious(42);
+		PerformanceEngine engine8 = new PerformanceEngine(scenarioIndexedBinaryHeap);
+		double m8 = engine8.measurement(20, true, false, 3, 3);
+		
+		int[] p9 = scenarioPairingHeapPriorityQueue.testPrevious(42);
+		PerformanceEngine engine9 = new PerformanceEngine(scenarioPairingHeapPriorityQueue);
+		double m9 = engine9.measurement(20, true, false, 3, 3);
+		
+		int[] p10 = scenarioRadixHeapPriorityQueue.testPrevious(42);
+		PerformanceEngine engine10 = new PerformanceEngine(scenarioRadixHeapPriorityQueue);
+		double m10 = engine10.measurement(20, true, false, 3, 3);
+		
+		int[] p11 = scenarioLazyTeneightyFibonacciPriorityQueue.testPrevious(42);
+		PerformanceEngine engine11 = new PerformanceEngine(scenarioLazyTeneightyFibonacciPriorityQueue);
+		double m11 = engine11.measurement(20, true, false, 3, 3);
+		
+		// d-ary heaps with the requested arities
+		int[][] pDary = new int[arities.length][];
+		double[] mDary = new double[arities.length];
+		for (int a = 0; a < arities.length; ++a) {
+			System.out.println("Arity: " + arities[a]);
+			PerformanceScenario scenarioDaryHeap = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.daryHeap(arities[a]), PriorityQueueFactories.PRIORITY_OBJECTS);
+			pDary[a] = scenarioDaryHeap.testPrevious(42);
+			PerformanceEngine engineDary = new PerformanceEngine(scenarioDaryHeap);
+			mDary[a] = engineDary.measurement(20, true, false, 3, 3);
+		}
+		
 		// check previous arrays from the test runs
 		for (int i = 0; i < p0.length; ++i) {
-			if (p0[i] != p1[i] || p0[i] != p2[i] || p0[i] != p3[i] || p0[i] != p4[i]/* || p0[i] != p5[i]*/ || p0[i] != p7[i]) {
+			if (p0[i] != p1[i] || p0[i] != p2[i] || p0[i] != p3[i] || p0[i] != p4[i]/* || p0[i] != p5[i]*/ || p0[i] != p7[i] || p0[i] != p8[i] || p0[i] != p9[i] || p0[i] != p10[i] || p0[i] != p11[i]) {
 				throw new RuntimeException("Problem...");
 			}
+			for (int a = 0; a < arities.length; ++a) {
+				if (p0[i] != pDary[a][i]) {
+					throw new RuntimeException("Problem...");
+				}
+			}
+		}
+		
+		double[] result = new double[] { size, p, calculateArcNumber(size, p), m0, m1, m2, m3, m4/*, m5*/, m7, m8, m9, m10, m11 };
+		double[] resultWithDary = new double[result.length + arities.length];
+		System.arraycopy(result, 0, resultWithDary, 0, result.length);
+		System.arraycopy(mDary, 0, resultWithDary, result.length, arities.length);
+		return resultWithDary;
+	}
+	
+	protected double[] integerWeightMeasurement(int size, double p, int maxWeight) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p) + ", maxWeight: " + maxWeight);
+		
+		SharedGraph graph = new SharedGraph(size, p, maxWeight, 20, new Random(42));
+		
+		PerformanceScenario scenarioDial = new SharedGraphDialScenario(graph, maxWeight);
+		PerformanceScenario scenarioIndexedBinaryHeap = new SharedGraphIndexedBinaryHeapScenario(graph);
+		PerformanceScenario scenarioRadixHeapPriorityQueue = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.RADIX_HEAP, PriorityQueueFactories.PRIORITY_OBJECTS);
+		
+		int[] p0 = scenarioDial.testPrevious(42);
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioDial);
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		
+		int[] p1 = scenarioIndexedBinaryHeap.testPrevious(42);
+		PerformanceEngine engine1 = new PerformanceEngine(scenarioIndexedBinaryHeap);
+		double m1 = engine1.measurement(20, true, false, 3, 3);
+		
+		int[] p2 = scenarioRadixHeapPriorityQueue.testPrevious(42);
+		PerformanceEngine engine2 = new PerformanceEngine(scenarioRadixHeapPriorityQueue);
+		double m2 = engine2.measurement(20, true, false, 3, 3);
+		
+		// integer weights have ties, so the previous arrays are compared by the length of their paths
+		for (int i = 0; i < p0.length; ++i) {
+			double length = pathLength(graph.generator, p0, i);
+			if (length != pathLength(graph.generator, p1, i) || length != pathLength(graph.generator, p2, i)) {
+				throw new RuntimeException("Problem...");
+			}
+		}
+		
+		return new double[] { size, p, calculateArcNumber(size, p), maxWeight, m0, m1, m2 };
+	}
+	
+	protected double[] pointToPointMeasurement(int size, double p) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p));
+		
+		SharedGraph graph = new SharedGraph(size, p, 20, new Random(42));
+		
+		SharedGraphPointToPointScenario scenarioPairingHeap = new SharedGraphPointToPointScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, false);
+		SharedGraphPointToPointScenario scenarioBidirectionalPairingHeap = new SharedGraphPointToPointScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, true);
+		SharedGraphPointToPointScenario scenarioTeneighty = new SharedGraphPointToPointScenario(graph, PriorityQueueFactories.TENEIGHTY, PriorityQueueFactories.TENEIGHTY_OBJECTS, false);
+		SharedGraphPointToPointScenario scenarioBidirectionalTeneighty = new SharedGraphPointToPointScenario(graph, PriorityQueueFactories.TENEIGHTY, PriorityQueueFactories.TENEIGHTY_OBJECTS, true);
+		PerformanceScenario scenarioEpochPairingHeap = new SharedGraphEpochPointToPointScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS);
+		
+		int[] p0 = scenarioPairingHeap.testPrevious(42);
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioPairingHeap);
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		
+		int[] p1 = scenarioBidirectionalPairingHeap.testPrevious(42);
+		PerformanceEngine engine1 = new PerformanceEngine(scenarioBidirectionalPairingHeap);
+		double m1 = engine1.measurement(20, true, false, 3, 3);
+		
+		int[] p2 = scenarioTeneighty.testPrevious(42);
+		PerformanceEngine engine2 = new PerformanceEngine(scenarioTeneighty);
+		double m2 = engine2.measurement(20, true, false, 3, 3);
+		
+		int[] p3 = scenarioBidirectionalTeneighty.testPrevious(42);
+		PerformanceEngine engine3 = new PerformanceEngine(scenarioBidirectionalTeneighty);
+		double m3 = engine3.measurement(20, true, false, 3, 3);
+		
+		int[] p4 = scenarioEpochPairingHeap.testPrevious(42);
+		PerformanceEngine engine4 = new PerformanceEngine(scenarioEpochPairingHeap);
+		double m4 = engine4.measurement(20, true, false, 3, 3);
+		
+		// check the paths of the test queries
+		if (!Arrays.equals(p0, p1) || !Arrays.equals(p0, p2) || !Arrays.equals(p0, p3) || !Arrays.equals(p0, p4)) {
+			throw new RuntimeException("Problem...");
+		}
+		
+		double settled = scenarioPairingHeap.averageSettledNodes();
+		double settledBidirectional = scenarioBidirectionalPairingHeap.averageSettledNodes();
+		
+		return new double[] { size, p, calculateArcNumber(size, p), m0, m1, m2, m3, settled, settledBidirectional, m4 };
+	}
+	
+	protected double[] aStarMeasurement(int size, double p) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p));
+		
+		// nodes get coordinates and the arcs are at least as long as the straight line
+		Random random = new Random(42);
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGeometricGraph(size, p, random);
+		SharedGraph graph = new SharedGraph(generator, 20, random);
+		
+		SharedGraphPointToPointScenario scenarioDijkstra = new SharedGraphPointToPointScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, false);
+		SharedGraphAStarScenario scenarioAStar = new SharedGraphAStarScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS);
+		
+		int[] p0 = scenarioDijkstra.testPrevious(42);
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioDijkstra);
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		
+		int[] p1 = scenarioAStar.testPrevious(42);
+		PerformanceEngine engine1 = new PerformanceEngine(scenarioAStar);
+		double m1 = engine1.measurement(20, true, false, 3, 3);
+		
+		// check the paths of the test queries
+		if (!Arrays.equals(p0, p1)) {
+			throw new RuntimeException("Problem...");
+		}
+		
+		double settled = scenarioDijkstra.averageSettledNodes();
+		double settledAStar = scenarioAStar.averageSettledNodes();
+		
+		return new double[] { size, p, calculateArcNumber(size, p), m0, m1, settled, settledAStar };
+	}
+	
+	protected double[] landmarkMeasurement(int size, double p, int landmarkCount) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p) + ", landmarks: " + landmarkCount);
+		
+		SharedGraph graph = new SharedGraph(size, p, 20, new Random(42));
+		
+		// the preprocessing is timed once per strategy, the queries are measured as usual
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		long start = System.nanoTime();
+		LandmarkHeuristic farthest = LandmarkPreprocessing.preprocess(graph.generator.neighbours, graph.generator.weights, landmarkCount, LandmarkSelection.FARTHEST, new Random(42), executor);
+		double preprocessingFarthest = (System.nanoTime() - start) / 1000000.0;
+		start = System.nanoTime();
+		LandmarkHeuristic avoid = LandmarkPreprocessing.preprocess(graph.generator.neighbours, graph.generator.weights, landmarkCount, LandmarkSelection.AVOID, new Random(42), executor);
+		double preprocessingAvoid = (System.nanoTime() - start) / 1000000.0;
+		executor.shutdown();
+		
+		SharedGraphPointToPointScenario scenarioDijkstra = new SharedGraphPointToPointScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, false);
+		SharedGraphAStarScenario scenarioFarthest = new SharedGraphAStarScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, farthest);
+		SharedGraphAStarScenario scenarioAvoid = new SharedGraphAStarScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, avoid);
+		
+		int[] p0 = scenarioDijkstra.testPrevious(42);
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioDijkstra);
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		
+		int[] p1 = scenarioFarthest.testPrevious(42);
+		PerformanceEngine engine1 = new PerformanceEngine(scenarioFarthest);
+		double m1 = engine1.measurement(20, true, false, 3, 3);
+		
+		int[] p2 = scenarioAvoid.testPrevious(42);
+		PerformanceEngine engine2 = new PerformanceEngine(scenarioAvoid);
+		double m2 = engine2.measurement(20, true, false, 3, 3);
+		
+		// check the paths of the test queries
+		if (!Arrays.equals(p0, p1) || !Arrays.equals(p0, p2)) {
+			throw new RuntimeException("Problem...");
+		}
+		
+		double settled = scenarioDijkstra.averageSettledNodes();
+		double settledFarthest = scenarioFarthest.averageSettledNodes();
+		double settledAvoid = scenarioAvoid.averageSettledNodes();
+		
+		return new double[] { size, p, calculateArcNumber(size, p), landmarkCount, preprocessingFarthest, preprocessingAvoid, farthest.bytesPerLandmark(), m0, m1, m2, settled, settledFarthest, settledAvoid };
+	}
+	
+	protected double[] contractionHierarchyMeasurement(int size, double p) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p));
+		
+		SharedGraph graph = new SharedGraph(size, p, 20, new Random(42));
+		
+		SharedGraphPointToPointScenario scenarioDijkstra = new SharedGraphPointToPointScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, false);
+		SharedGraphContractionHierarchyScenario scenarioHierarchy = new SharedGraphContractionHierarchyScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS);
+		
+		int[] p0 = scenarioDijkstra.testPrevious(42);
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioDijkstra);
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		
+		int[] p1 = scenarioHierarchy.testPrevious(42);
+		PerformanceEngine engine1 = new PerformanceEngine(scenarioHierarchy);
+		double m1 = engine1.measurement(20, true, false, 3, 3);
+		
+		// check the paths of the test queries
+		if (!Arrays.equals(p0, p1)) {
+			throw new RuntimeException("Problem...");
+		}
+		
+		double settled = scenarioDijkstra.averageSettledNodes();
+		double settledHierarchy = scenarioHierarchy.averageSettledNodes();
+		
+		return new double[] { size, p, calculateArcNumber(size, p), scenarioHierarchy.preprocessingTime, scenarioHierarchy.hierarchy.shortcuts, m0, m1, settled, settledHierarchy };
+	}
+	
+	protected double[] hubLabelMeasurement(int size, double p) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p));
+		
+		SharedGraph graph = new SharedGraph(size, p, 20, new Random(42));
+		
+		SharedGraphPointToPointScenario scenarioDijkstra = new SharedGraphPointToPointScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, false);
+		SharedGraphHubLabelScenario scenarioHubLabels = new SharedGraphHubLabelScenario(graph);
+		
+		double d0 = scenarioDijkstra.testDistance(42);
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioDijkstra);
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		
+		double d1 = scenarioHubLabels.testDistance(42);
+		PerformanceEngine engine1 = new PerformanceEngine(scenarioHubLabels);
+		double m1 = engine1.measurement(20, true, false, 3, 3);
+		
+		// the distances are sums in a different order, so they may differ in the last bits
+		if (Math.abs(d0 - d1) > 1e-9) {
+			throw new RuntimeException("Problem...");
 		}
 		
-		return new double[] { size, p, calculateArcNumber(size, p), m0, m1, m2, m3, m4/*, m5*/, m7 };
+		double averageLabelSize = (double)scenarioHubLabels.labels.entries() / (2 * size);
+		
+		return new double[] { size, p, calculateArcNumber(size, p), scenarioHubLabels.preprocessingTime, averageLabelSize, m0, m1 };
+	}
+	
+	protected double[] deltaSteppingMeasurement(int size, double p, int[] parallelisms) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p));
+		
+		SharedGraph graph = new SharedGraph(size, p, 20, new Random(42));
+		
+		PerformanceScenario scenarioIndexedBinaryHeap = new SharedGraphIndexedBinaryHeapScenario(graph);
+		
+		int[] p0 = scenarioIndexedBinaryHeap.testPrevious(42);
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioIndexedBinaryHeap);
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		
+		// one pool per parallelism, the single-threaded engine is the baseline of the speedup
+		double[] result = new double[4 + parallelisms.length];
+		result[0] = size;
+		result[1] = p;
+		result[2] = calculateArcNumber(size, p);
+		result[3] = m0;
+		for (int k = 0; k < parallelisms.length; ++k) {
+			System.out.println("Parallelism: " + parallelisms[k]);
+			ForkJoinPool pool = new ForkJoinPool(parallelisms[k]);
+			PerformanceScenario scenarioDeltaStepping = new SharedGraphDeltaSteppingScenario(graph, pool);
+			
+			int[] pDelta = scenarioDeltaStepping.testPrevious(42);
+			PerformanceEngine engineDelta = new PerformanceEngine(scenarioDeltaStepping);
+			result[4 + k] = engineDelta.measurement(20, true, false, 3, 3);
+			pool.shutdown();
+			
+			if (!Arrays.equals(p0, pDelta)) {
+				throw new RuntimeException("Problem...");
+			}
+		}
+		
+		return result;
+	}
+	
+	protected double[] distanceMatrixMeasurement(int size, double p, int count) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p) + ", sources x targets: " + count + " x " + count);
+		
+		SharedGraph graph = new SharedGraph(size, p, 20, new Random(42));
+		
+		int tasks = Runtime.getRuntime().availableProcessors();
+		ExecutorService executor = Executors.newFixedThreadPool(tasks);
+		SharedGraphDistanceMatrixScenario scenarioFullSearches = new SharedGraphDistanceMatrixScenario(graph, count, count, null, 1);
+		SharedGraphDistanceMatrixScenario scenarioDistanceMatrix = new SharedGraphDistanceMatrixScenario(graph, count, count, executor, tasks);
+		
+		scenarioFullSearches.testPrevious(42);
+		double[][] matrix0 = scenarioFullSearches.matrix;
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioFullSearches);
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		
+		scenarioDistanceMatrix.testPrevious(42);
+		double[][] matrix1 = scenarioDistanceMatrix.matrix;
+		PerformanceEngine engine1 = new PerformanceEngine(scenarioDistanceMatrix);
+		double m1 = engine1.measurement(20, true, false, 3, 3);
+		executor.shutdown();
+		
+		for (int i = 0; i < matrix0.length; ++i) {
+			if (!Arrays.equals(matrix0[i], matrix1[i])) {
+				throw new RuntimeException("Problem...");
+			}
+		}
+		
+		// the measured times are milliseconds
+		double cells = scenarioDistanceMatrix.cells();
+		return new double[] { size, p, calculateArcNumber(size, p), count, m0, m1, cells * 1000.0 / m0, cells * 1000.0 / m1 };
+	}
+	
+	protected double[] batchMeasurement(int size, double p, int[] parallelisms) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p));
+		
+		SharedGraph graph = new SharedGraph(size, p, 20, new Random(42));
+		
+		PerformanceScenario scenarioPairingHeap = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, true);
+		
+		int[] p0 = scenarioPairingHeap.testPrevious(42);
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioPairingHeap);
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		
+		// one worker per thread of the pool, the single-threaded scenario is the baseline of the speedup
+		double[] result = new double[4 + parallelisms.length];
+		result[0] = size;
+		result[1] = p;
+		result[2] = calculateArcNumber(size, p);
+		result[3] = m0;
+		for (int k = 0; k < parallelisms.length; ++k) {
+			System.out.println("Workers: " + parallelisms[k]);
+			ExecutorService executor = Executors.newFixedThreadPool(parallelisms[k]);
+			PerformanceScenario scenarioBatch = new SharedGraphBatchScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, executor, parallelisms[k]);
+			
+			int[] pBatch = scenarioBatch.testPrevious(42);
+			PerformanceEngine engineBatch = new PerformanceEngine(scenarioBatch);
+			result[4 + k] = engineBatch.measurement(20, true, false, 3, 3);
+			executor.shutdown();
+			
+			if (!Arrays.equals(p0, pBatch)) {
+				throw new RuntimeException("Problem...");
+			}
+		}
+		
+		return result;
+	}
+	
+	protected double[] denseMeasurement(int size, double p) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p));
+		
+		SharedGraph graph = new SharedGraph(size, p, 20, new Random(42));
+		
+		PerformanceScenario scenarioBase = new SharedGraphBaseScenario(graph);
+		PerformanceScenario scenarioDense = new SharedGraphDenseScenario(graph, false);
+		PerformanceScenario scenarioDenseMatrix = new SharedGraphDenseScenario(graph, true);
+		PerformanceScenario scenarioIndexedBinaryHeap = new SharedGraphIndexedBinaryHeapScenario(graph);
+		PerformanceScenario scenarioPairingHeap = new SharedGraphPriorityQueueScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, true);
+		
+		int[] p0 = scenarioBase.testPrevious(42);
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioBase);
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		
+		int[] p1 = scenarioDense.testPrevious(42);
+		PerformanceEngine engine1 = new PerformanceEngine(scenarioDense);
+		double m1 = engine1.measurement(20, true, false, 3, 3);
+		
+		int[] p2 = scenarioDenseMatrix.testPrevious(42);
+		PerformanceEngine engine2 = new PerformanceEngine(scenarioDenseMatrix);
+		double m2 = engine2.measurement(20, true, false, 3, 3);
+		
+		int[] p3 = scenarioIndexedBinaryHeap.testPrevious(42);
+		PerformanceEngine engine3 = new PerformanceEngine(scenarioIndexedBinaryHeap);
+		double m3 = engine3.measurement(20, true, false, 3, 3);
+		
+		int[] p4 = scenarioPairingHeap.testPrevious(42);
+		PerformanceEngine engine4 = new PerformanceEngine(scenarioPairingHeap);
+		double m4 = engine4.measurement(20, true, false, 3, 3);
+		
+		// check previous arrays from the test runs
+		if (!Arrays.equals(p0, p1) || !Arrays.equals(p0, p2) || !Arrays.equals(p0, p3) || !Arrays.equals(p0, p4)) {
+			throw new RuntimeException("Problem...");
+		}
+		
+		return new double[] { size, p, calculateArcNumber(size, p), m0, m1, m2, m3, m4 };
+	}
+	
+	protected double[] mappedGraphMeasurement(int size, double p) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p));
+		
+		long start = System.nanoTime();
+		SharedGraph graph = new SharedGraph(size, p, 20, new Random(42));
+		double generationTime = (System.nanoTime() - start) / 1000000.0;
+		
+		File file = new File(System.getProperty("java.io.tmpdir"), "dijkstra-" + size + "-" + p + ".graph");
+		file.deleteOnExit();
+		
+		PerformanceScenario scenarioHeap = new SharedGraphMappedScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, file, false);
+		SharedGraphMappedScenario scenarioMapped = new SharedGraphMappedScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, file, true);
+		
+		int[] p0 = scenarioHeap.testPrevious(42);
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioHeap);
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		
+		int[] p1 = scenarioMapped.testPrevious(42);
+		PerformanceEngine engine1 = new PerformanceEngine(scenarioMapped);
+		double m1 = engine1.measurement(20, true, false, 3, 3);
+		
+		// check previous arrays from the test runs
+		if (!Arrays.equals(p0, p1)) {
+			throw new RuntimeException("Problem...");
+		}
+		
+		double fileSize = file.length() / (1024.0 * 1024.0);
+		
+		return new double[] { size, p, calculateArcNumber(size, p), generationTime, scenarioMapped.writeTime, scenarioMapped.openTime, fileSize, m0, m1 };
+	}
+	
+	protected double[] offHeapMeasurement(int size, double p) {
+		
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + calculateArcNumber(size, p));
+		
+		SharedGraph graph = new SharedGraph(size, p, 20, new Random(42));
+		
+		PerformanceScenario scenarioHeap = new SharedGraphOffHeapScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, false, false);
+		
+		int[] p0 = scenarioHeap.testPrevious(42);
+		PerformanceEngine engine0 = new PerformanceEngine(scenarioHeap);
+		double gc0 = collectionTime();
+		double m0 = engine0.measurement(20, true, false, 3, 3);
+		gc0 = collectionTime() - gc0;
+		double full0 = fullCollectionTime();
+		
+		// the same compressed sparse row layout and Graph overload on the heap and off it,
+		// so the difference between the two is the storage alone
+		PerformanceScenario scenarioCompressed = new SharedGraphOffHeapScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, true, false);
+		PerformanceScenario scenarioOffHeap = new SharedGraphOffHeapScenario(graph, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, true, true);
+		
+		// from here on the neighbour arrays are garbage
+		graph.generator = null;
+		scenarioHeap = null;
+		engine0 = null;
+		System.gc();
+		
+		int[] p1 = scenarioCompressed.testPrevious(42);
+		PerformanceEngine engine1 = new PerformanceEngine(scenarioCompressed);
+		double gc1 = collectionTime();
+		double m1 = engine1.measurement(20, true, false, 3, 3);
+		gc1 = collectionTime() - gc1;
+		double full1 = fullCollectionTime();
+		
+		// only the off-heap copy is live now
+		scenarioCompressed = null;
+		engine1 = null;
+		System.gc();
+		
+		int[] p2 = scenarioOffHeap.testPrevious(42);
+		PerformanceEngine engine2 = new PerformanceEngine(scenarioOffHeap);
+		double gc2 = collectionTime();
+		double m2 = engine2.measurement(20, true, false, 3, 3);
+		gc2 = collectionTime() - gc2;
+		double full2 = fullCollectionTime();
+		
+		// check previous arrays from the test runs
+		if (!Arrays.equals(p0, p1) || !Arrays.equals(p0, p2)) {
+			throw new RuntimeException("Problem...");
+		}
+		
+		return new double[] { size, p, calculateArcNumber(size, p), full0, full1, full2, gc0, gc1, gc2, m0, m1, m2 };
+	}
+	
+	// total time of all collections so far in ms, as reported by the collector beans
+	private double collectionTime() {
+		long time = 0;
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			time += Math.max(bean.getCollectionTime(), 0);
+		}
+		return time;
+	}
+	
+	// average pause of a full collection in ms, which marks everything that is live at that point
+	private double fullCollectionTime() {
+		int runs = 5;
+		long start = System.nanoTime();
+		for (int i = 0; i < runs; ++i) {
+			System.gc();
+		}
+		return (System.nanoTime() - start) / 1000000.0 / runs;
+	}
+	
+	private double pathLength(NeighbourArrayGraphGenerator generator, int[] previous, int destination) {
+		double length = 0.0;
+		int v = destination;
+		while (previous[v] != -1) {
+			int u = previous[v];
+			for (int i = 0; i < generator.neighbours[u].length; ++i) {
+				if (generator.neighbours[u][i] == v) {
+					length += generator.weights[u][i];
+					break;
+				}
+			}
+			v = u;
+		}
+		return length;
 	}
 }
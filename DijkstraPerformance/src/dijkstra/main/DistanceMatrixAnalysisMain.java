@@ -0,0 +1,35 @@
+package dijkstra.main;
+
+public class DistanceMatrixAnalysisMain extends DijkstraPerformanceBase {
+	
+	public static void main(String[] args) {
+		new DistanceMatrixAnalysisMain().run();
+	}
+	
+	private void run() {
+		runWithConstantP(0.01, 100);
+		runWithConstantP(0.05, 100);
+		runWithConstantP(0.1, 100);
+	}
+	
+	private void runWithConstantP(double p, int count) {
+		int n = 10;
+		
+		double[][] results = new double[n][];
+		for (int i = 0; i < n; ++i) {
+			results[i] = distanceMatrixMeasurement(1000 + 1000 * i, p, count);
+		}
+		for (int i = 0; i < n; ++i) {
+			if (results[i] == null) {
+				continue;
+			}
+			for (int j = 0; j < results[i].length; ++j) {
+				System.out.print(results[i][j]);
+				System.out.print(",");
+			}
+			System.out.println();
+		}
+		
+	}
+
+}
@@ -0,0 +1,43 @@
+package dijkstra.main;
+
+import java.util.Random;
+
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+import dijkstra.graph.SkipSamplingGraphGenerator;
+
+public class GraphGenerationAnalysisMain {
+	
+	public static void main(String[] args) {
+		compareGenerators(1000, 0.1);
+		compareGenerators(1000, 0.5);
+		compareGenerators(1000, 0.9);
+		compareGenerators(3000, 0.9);
+		measureSkipSampling(1000000, 0.00001);
+		measureSkipSampling(1000000, 0.00002);
+	}
+	
+	public static void compareGenerators(int size, double p) {
+		long start = System.nanoTime();
+		new NeighbourArrayGraphGenerator().generateRandomGraph(size, p, new Random(42));
+		double hashSetTime = (System.nanoTime() - start) / 1000000.0;
+		
+		start = System.nanoTime();
+		new SkipSamplingGraphGenerator().generateRandomGraph(size, p, new Random(42));
+		double skipSamplingTime = (System.nanoTime() - start) / 1000000.0;
+		
+		System.out.println("Size: " + size + ", p: " + p + ", NeighbourArrayGraphGenerator: " + hashSetTime + ", SkipSamplingGraphGenerator: " + skipSamplingTime);
+	}
+	
+	public static void measureSkipSampling(int size, double p) {
+		long start = System.nanoTime();
+		SkipSamplingGraphGenerator generator = new SkipSamplingGraphGenerator();
+		generator.generateRandomGraph(size, p, new Random(42));
+		double time = (System.nanoTime() - start) / 1000000.0;
+		
+		long arcs = 0;
+		for (int i = 0; i < generator.neighbours.length; ++i) {
+			arcs += generator.neighbours[i].length;
+		}
+		System.out.println("Size: " + size + ", p: " + p + ", #arcs: " + arcs + ", SkipSamplingGraphGenerator: " + time);
+	}
+}
@@ -2,6 +2,9 @@ package dijkstra.main;
 
 public class GraphSizeAnalysisMain extends DijkstraPerformanceBase {
 	
+	// arities of the d-ary heaps measured next to the Fibonacci heaps
+	int[] arities = new int[] { 2, 4, 8, 16 };
+	
 	public static void main(String[] args) {
 		new GraphSizeAnalysisMain().run();
 	}
@@ -19,7 +22,7 @@ public class GraphSizeAnalysisMain extends DijkstraPerformanceBase {
 		
 		double[][] results = new double[n][];
 		for (int i = 0; i < n; ++i) {
-			results[i] = parameterizedMeasurement(10 + 10 * i, p);
+			results[i] = parameterizedMeasurement(10 + 10 * i, p, arities);
 		}
 		for (int i = 0; i < n; ++i) {
 			if (results[i] == null) {
@@ -0,0 +1,37 @@
+package dijkstra.main;
+
+public class IntegerWeightAnalysisMain extends DijkstraPerformanceBase {
+	
+	public static void main(String[] args) {
+		new IntegerWeightAnalysisMain().run();
+	}
+	
+	private void run() {
+		runWithConstantP(0.1, 100);
+		runWithConstantP(0.3, 100);
+		runWithConstantP(0.5, 100);
+		runWithConstantP(0.7, 100);
+		runWithConstantP(0.9, 100);
+	}
+	
+	private void runWithConstantP(double p, int maxWeight) {
+		int n = 99;
+		
+		double[][] results = new double[n][];
+		for (int i = 0; i < n; ++i) {
+			results[i] = integerWeightMeasurement(10 + 10 * i, p, maxWeight);
+		}
+		for (int i = 0; i < n; ++i) {
+			if (results[i] == null) {
+				continue;
+			}
+			for (int j = 0; j < results[i].length; ++j) {
+				System.out.print(results[i][j]);
+				System.out.print(",");
+			}
+			System.out.println();
+		}
+		
+	}
+
+}
@@ -0,0 +1,37 @@
+package dijkstra.main;
+
+public class LandmarkAnalysisMain extends DijkstraPerformanceBase {
+	
+	public static void main(String[] args) {
+		new LandmarkAnalysisMain().run();
+	}
+	
+	private void run() {
+		runWithConstantP(0.1, 16);
+		runWithConstantP(0.3, 16);
+		runWithConstantP(0.5, 16);
+		runWithConstantP(0.7, 16);
+		runWithConstantP(0.9, 16);
+	}
+	
+	private void runWithConstantP(double p, int landmarkCount) {
+		int n = 99;
+		
+		double[][] results = new double[n][];
+		for (int i = 0; i < n; ++i) {
+			results[i] = landmarkMeasurement(20 + 10 * i, p, landmarkCount);
+		}
+		for (int i = 0; i < n; ++i) {
+			if (results[i] == null) {
+				continue;
+			}
+			for (int j = 0; j < results[i].length; ++j) {
+				System.out.print(results[i][j]);
+				System.out.print(",");
+			}
+			System.out.println();
+		}
+		
+	}
+
+}
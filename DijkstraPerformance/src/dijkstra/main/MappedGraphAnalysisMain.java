@@ -0,0 +1,35 @@
+package dijkstra.main;
+
+public class MappedGraphAnalysisMain extends DijkstraPerformanceBase {
+	
+	public static void main(String[] args) {
+		new MappedGraphAnalysisMain().run();
+	}
+	
+	private void run() {
+		runWithConstantP(0.1);
+		runWithConstantP(0.5);
+		runWithConstantP(0.9);
+	}
+	
+	private void runWithConstantP(double p) {
+		int n = 20;
+		
+		double[][] results = new double[n][];
+		for (int i = 0; i < n; ++i) {
+			results[i] = mappedGraphMeasurement(100 + 100 * i, p);
+		}
+		for (int i = 0; i < n; ++i) {
+			if (results[i] == null) {
+				continue;
+			}
+			for (int j = 0; j < results[i].length; ++j) {
+				System.out.print(results[i][j]);
+				System.out.print(",");
+			}
+			System.out.println();
+		}
+		
+	}
+
+}
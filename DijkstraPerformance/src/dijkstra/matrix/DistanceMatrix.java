@@ -0,0 +1,133 @@
+package dijkstra.matrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import dijkstra.indexed.IndexedBinaryHeap;
+
+public class DistanceMatrix {
+	
+	// matrix[i][j] is the distance from sources[i] to targets[j], Double.MAX_VALUE if unreachable;
+	// the sources are split into one block per task and every task has its own working arrays
+	public static double[][] compute(int[][] neighbours, double[][] weights, int[] sources, int[] targets, ExecutorService executor, int tasks) {
+		
+		if (tasks < 1) {
+			throw new IllegalArgumentException("Task count must be positive: " + tasks);
+		}
+		
+		double[][] matrix = new double[sources.length][];
+		int blocks = Math.min(tasks, sources.length);
+		ArrayList<Future<Void>> futures = new ArrayList<>();
+		for (int b = 0; b < blocks; ++b) {
+			int from = (int)((long)sources.length * b / blocks);
+			int to = (int)((long)sources.length * (b + 1) / blocks);
+			futures.add(executor.submit(new Block(neighbours, weights, sources, targets, matrix, from, to)));
+		}
+		
+		try {
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+		return matrix;
+	}
+	
+	// one-to-many search that stops once every target is settled, distance has to be all Double.MAX_VALUE
+	// on entry and is left that way, targetMark has to be all false and is left that way
+	public static void oneToMany(int[][] neighbours, double[][] weights, int source, int[] targets, double[] row, double[] distance, boolean[] targetMark, int[] touched, IndexedBinaryHeap heap) {
+		
+		int remaining = 0;
+		for (int j = 0; j < targets.length; ++j) {
+			if (!targetMark[targets[j]]) {
+				targetMark[targets[j]] = true;
+				++remaining;
+			}
+		}
+		
+		int touchedCount = 0;
+		distance[source] = 0.0;
+		touched[touchedCount++] = source;
+		heap.clear();
+		heap.insert(source, 0.0);
+		
+		while (heap.size() != 0 && remaining != 0) {
+			
+			// extract min
+			int u = heap.extractMin();
+			if (targetMark[u]) {
+				--remaining;
+			}
+			
+			// find the neighbours
+			if (neighbours[u] == null) {
+				continue;
+			}
+			
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				int v = neighbours[u][i];
+				double alt = distance[u] + weights[u][i];
+				if (alt < distance[v]) {
+					if (distance[v] == Double.MAX_VALUE) {
+						touched[touchedCount++] = v;
+					}
+					distance[v] = alt;
+					heap.insertOrDecrease(v, alt);
+				}
+			}
+		}
+		
+		for (int j = 0; j < targets.length; ++j) {
+			row[j] = distance[targets[j]];
+			targetMark[targets[j]] = false;
+		}
+		for (int i = 0; i < touchedCount; ++i) {
+			distance[touched[i]] = Double.MAX_VALUE;
+		}
+	}
+	
+	private static class Block implements Callable<Void> {
+		
+		int[][] neighbours;
+		double[][] weights;
+		int[] sources;
+		int[] targets;
+		double[][] matrix;
+		int from;
+		int to;
+		
+		Block(int[][] neighbours, double[][] weights, int[] sources, int[] targets, double[][] matrix, int from, int to) {
+			this.neighbours = neighbours;
+			this.weights = weights;
+			this.sources = sources;
+			this.targets = targets;
+			this.matrix = matrix;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		public Void call() {
+			int size = neighbours.length;
+			double[] distance = new double[size];
+			Arrays.fill(distance, Double.MAX_VALUE);
+			boolean[] targetMark = new boolean[size];
+			int[] touched = new int[size];
+			IndexedBinaryHeap heap = new IndexedBinaryHeap(size);
+			
+			for (int i = from; i < to; ++i) {
+				matrix[i] = new double[targets.length];
+				oneToMany(neighbours, weights, sources[i], targets, matrix[i], distance, targetMark, touched, heap);
+			}
+			return null;
+		}
+	}
+	
+}
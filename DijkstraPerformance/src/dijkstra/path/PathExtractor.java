@@ -0,0 +1,65 @@
+package dijkstra.path;
+
+public class PathExtractor {
+	
+	// the path from the root of the tree to destination, null if destination has no previous node
+	public static int[] path(int[] previous, int destination) {
+		if (previous[destination] == -1) {
+			return null;
+		}
+		int[] path = new int[pathLength(previous, destination)];
+		writePath(previous, destination, path, 0, path.length);
+		return path;
+	}
+	
+	public static int requiredLength(int[] previous, int[] destinations) {
+		int length = 0;
+		for (int i = 0; i < destinations.length; ++i) {
+			if (previous[destinations[i]] != -1) {
+				length += pathLength(previous, destinations[i]);
+			}
+		}
+		return length;
+	}
+	
+	// writes the path to destinations[i] into buffer[offsets[i]] .. buffer[offsets[i + 1] - 1], destinations
+	// without a previous node get an empty path; returns the number of entries written
+	public static int extractPaths(int[] previous, int[] destinations, int[] buffer, int[] offsets) {
+		if (offsets.length < destinations.length + 1) {
+			throw new IllegalArgumentException("Offsets need " + (destinations.length + 1) + " entries: " + offsets.length);
+		}
+		
+		int position = 0;
+		offsets[0] = 0;
+		for (int i = 0; i < destinations.length; ++i) {
+			if (previous[destinations[i]] != -1) {
+				int length = pathLength(previous, destinations[i]);
+				if (position + length > buffer.length) {
+					throw new IllegalArgumentException("Buffer too small, requiredLength gives the size needed: " + buffer.length);
+				}
+				writePath(previous, destinations[i], buffer, position, length);
+				position += length;
+			}
+			offsets[i + 1] = position;
+		}
+		return position;
+	}
+	
+	private static int pathLength(int[] previous, int destination) {
+		int length = 0;
+		for (int u = destination; u != -1; u = previous[u]) {
+			++length;
+		}
+		return length;
+	}
+	
+	// the path is written backwards, so no temporary list is needed
+	private static void writePath(int[] previous, int destination, int[] buffer, int position, int length) {
+		int u = destination;
+		for (int i = position + length - 1; i >= position; --i) {
+			buffer[i] = u;
+			u = previous[u];
+		}
+	}
+	
+}
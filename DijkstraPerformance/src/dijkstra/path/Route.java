@@ -0,0 +1,29 @@
+package dijkstra.path;
+
+public class Route {
+	
+	public double distance;
+	public int[] path;
+	public int settledNodes;
+	
+	public Route(double distance, int[] path, int settledNodes) {
+		this.distance = distance;
+		this.path = path;
+		this.settledNodes = settledNodes;
+	}
+	
+	public static Route fromPrevious(int[] previous, int source, int target, double distance, int settledNodes) {
+		// count the nodes first so the path can be written backwards without a temporary list
+		int length = 1;
+		for (int u = target; u != source; u = previous[u]) {
+			++length;
+		}
+		int[] path = new int[length];
+		int u = target;
+		for (int i = length - 1; i >= 0; --i) {
+			path[i] = u;
+			u = previous[u];
+		}
+		return new Route(distance, path, settledNodes);
+	}
+}
@@ -0,0 +1,97 @@
+package dijkstra.path;
+
+public class ShortestPathTree {
+	
+	// children of u are children[offsets[u]] .. children[offsets[u + 1] - 1]
+	int[] offsets;
+	int[] children;
+	
+	// preorder traversal state, path[0..depth] is the path from the root to the current node
+	int[] path;
+	int[] nextChild;
+	int depth;
+	int root;
+	boolean started;
+	
+	// all arrays are allocated here, build and start can be called again without allocating
+	public ShortestPathTree(int size) {
+		offsets = new int[size + 1];
+		children = new int[size];
+		path = new int[size];
+		nextChild = new int[size];
+		depth = -1;
+		started = true;
+	}
+	
+	public void build(int[] previous) {
+		int size = previous.length;
+		for (int u = 0; u <= size; ++u) {
+			offsets[u] = 0;
+		}
+		for (int v = 0; v < size; ++v) {
+			if (previous[v] != -1) {
+				++offsets[previous[v] + 1];
+			}
+		}
+		for (int u = 0; u < size; ++u) {
+			offsets[u + 1] += offsets[u];
+		}
+		// nextChild is used as the fill position here, the traversal sets it again
+		for (int u = 0; u < size; ++u) {
+			nextChild[u] = offsets[u];
+		}
+		for (int v = 0; v < size; ++v) {
+			if (previous[v] != -1) {
+				children[nextChild[previous[v]]++] = v;
+			}
+		}
+		depth = -1;
+		started = true;
+	}
+	
+	public void start(int root) {
+		this.root = root;
+		depth = -1;
+		started = false;
+	}
+	
+	// moves to the next node of the subtree of the root in preorder, false when all are visited
+	public boolean next() {
+		if (depth == -1) {
+			if (started) {
+				return false;
+			}
+			started = true;
+			depth = 0;
+			path[0] = root;
+			nextChild[0] = offsets[root];
+			return true;
+		}
+		while (depth >= 0) {
+			int u = path[depth];
+			if (nextChild[depth] < offsets[u + 1]) {
+				int child = children[nextChild[depth]++];
+				++depth;
+				path[depth] = child;
+				nextChild[depth] = offsets[child];
+				return true;
+			}
+			--depth;
+		}
+		return false;
+	}
+	
+	public int node() {
+		return path[depth];
+	}
+	
+	public int depth() {
+		return depth;
+	}
+	
+	// entries 0 .. depth() are the path from the root to node(), valid until the next call of next()
+	public int[] path() {
+		return path;
+	}
+	
+}
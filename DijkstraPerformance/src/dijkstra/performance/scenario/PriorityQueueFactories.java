@@ -0,0 +1,146 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueue;
+import dijkstra.priority.PriorityQueueFactory;
+import dijkstra.priority.impl.DaryHeapPriorityQueue;
+import dijkstra.priority.impl.GrowingWithTheWebDijkstraPriorityObject;
+import dijkstra.priority.impl.GrowingWithTheWebFibonacciPriorityQueue;
+import dijkstra.priority.impl.KeithschwarzDijkstraPriorityObject;
+import dijkstra.priority.impl.KeithschwarzFibonacciPriorityQueue;
+import dijkstra.priority.impl.Neo4jDijkstraPriorityObject;
+import dijkstra.priority.impl.Neo4jFibonacciPrioityQueue;
+import dijkstra.priority.impl.NutchFibonacciPriorityQueue;
+import dijkstra.priority.impl.PairingHeapDijkstraPriorityObject;
+import dijkstra.priority.impl.PairingHeapPriorityQueue;
+import dijkstra.priority.impl.PengyifanDijkstraPriorityObject;
+import dijkstra.priority.impl.PengyifanFibonacciPriorityQueue;
+import dijkstra.priority.impl.RadixHeapPriorityQueue;
+import dijkstra.priority.impl.TeneightyDijkstraPriorityObject;
+import dijkstra.priority.impl.TeneightyFibonacciPriorityQueue;
+import dijkstra.priority.impl.TreeSetPriorityQueue;
+
+public class PriorityQueueFactories {
+	
+	public static final PriorityQueueFactory TREE_SET = new PriorityQueueFactory() {
+		@Override
+		public PriorityQueue<PriorityObject> createPriorityQueue(int size) {
+			return new TreeSetPriorityQueue();
+		}
+	};
+	
+	public static final PriorityQueueFactory NEO4J = new PriorityQueueFactory() {
+		@Override
+		public PriorityQueue<PriorityObject> createPriorityQueue(int size) {
+			return new Neo4jFibonacciPrioityQueue();
+		}
+	};
+	
+	public static final PriorityQueueFactory NUTCH = new PriorityQueueFactory() {
+		@Override
+		public PriorityQueue<PriorityObject> createPriorityQueue(int size) {
+			return new NutchFibonacciPriorityQueue();
+		}
+	};
+	
+	public static final PriorityQueueFactory TENEIGHTY = new PriorityQueueFactory() {
+		@Override
+		public PriorityQueue<PriorityObject> createPriorityQueue(int size) {
+			return new TeneightyFibonacciPriorityQueue();
+		}
+	};
+	
+	public static final PriorityQueueFactory GROWING_WITH_THE_WEB = new PriorityQueueFactory() {
+		@Override
+		public PriorityQueue<PriorityObject> createPriorityQueue(int size) {
+			return new GrowingWithTheWebFibonacciPriorityQueue();
+		}
+	};
+	
+	public static final PriorityQueueFactory PENGYIFAN = new PriorityQueueFactory() {
+		@Override
+		public PriorityQueue<PriorityObject> createPriorityQueue(int size) {
+			return new PengyifanFibonacciPriorityQueue();
+		}
+	};
+	
+	public static final PriorityQueueFactory KEITHSCHWARZ = new PriorityQueueFactory() {
+		@Override
+		public PriorityQueue<PriorityObject> createPriorityQueue(int size) {
+			return new KeithschwarzFibonacciPriorityQueue();
+		}
+	};
+	
+	public static final PriorityQueueFactory PAIRING_HEAP = new PriorityQueueFactory() {
+		@Override
+		public PriorityQueue<PriorityObject> createPriorityQueue(int size) {
+			return new PairingHeapPriorityQueue();
+		}
+	};
+	
+	public static final PriorityQueueFactory RADIX_HEAP = new PriorityQueueFactory() {
+		@Override
+		public PriorityQueue<PriorityObject> createPriorityQueue(int size) {
+			return new RadixHeapPriorityQueue(size);
+		}
+	};
+	
+	public static final PriorityObjectFactory PRIORITY_OBJECTS = new PriorityObjectFactory() {
+		@Override
+		public PriorityObject createPriorityObject(int node, double priority) {
+			return new PriorityObject(node, priority);
+		}
+	};
+	
+	public static final PriorityObjectFactory NEO4J_OBJECTS = new PriorityObjectFactory() {
+		@Override
+		public PriorityObject createPriorityObject(int node, double priority) {
+			return new Neo4jDijkstraPriorityObject(node, priority);
+		}
+	};
+	
+	public static final PriorityObjectFactory TENEIGHTY_OBJECTS = new PriorityObjectFactory() {
+		@Override
+		public PriorityObject createPriorityObject(int node, double priority) {
+			return new TeneightyDijkstraPriorityObject(node, priority);
+		}
+	};
+	
+	public static final PriorityObjectFactory GROWING_WITH_THE_WEB_OBJECTS = new PriorityObjectFactory() {
+		@Override
+		public PriorityObject createPriorityObject(int node, double priority) {
+			return new GrowingWithTheWebDijkstraPriorityObject(node, priority);
+		}
+	};
+	
+	public static final PriorityObjectFactory PENGYIFAN_OBJECTS = new PriorityObjectFactory() {
+		@Override
+		public PriorityObject createPriorityObject(int node, double priority) {
+			return new PengyifanDijkstraPriorityObject(node, priority);
+		}
+	};
+	
+	public static final PriorityObjectFactory KEITHSCHWARZ_OBJECTS = new PriorityObjectFactory() {
+		@Override
+		public PriorityObject createPriorityObject(int node, double priority) {
+			return new KeithschwarzDijkstraPriorityObject(node, priority);
+		}
+	};
+	
+	public static final PriorityObjectFactory PAIRING_HEAP_OBJECTS = new PriorityObjectFactory() {
+		@Override
+		public PriorityObject createPriorityObject(int node, double priority) {
+			return new PairingHeapDijkstraPriorityObject(node, priority);
+		}
+	};
+	
+	public static PriorityQueueFactory daryHeap(final int arity) {
+		return new PriorityQueueFactory() {
+			@Override
+			public PriorityQueue<PriorityObject> createPriorityQueue(int size) {
+				return new DaryHeapPriorityQueue(arity, size);
+			}
+		};
+	}
+}
@@ -0,0 +1,57 @@
+package dijkstra.performance.scenario;
+
+import java.util.Random;
+
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+
+public class SharedGraph {
+	
+	public NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+	public int[] origins;
+	public int[] targets;
+	public int size;
+	
+	public SharedGraph(int size, double p, int previousArrayBuilds, Random random) {
+		this(size, p, 0, previousArrayBuilds, random);
+	}
+	
+	// maxWeight > 0 generates integer weights from [1, maxWeight]
+	public SharedGraph(int size, double p, int maxWeight, int previousArrayBuilds, Random random) {
+		this.size = size;
+		if (maxWeight > 0) {
+			generator.generateRandomGraph(size, p, maxWeight, random);
+		} else {
+			generator.generateRandomGraph(size, p, random);
+		}
+		generateQueries(previousArrayBuilds, random);
+	}
+	
+	// uses an already generated graph, e.g. one with coordinates
+	public SharedGraph(NeighbourArrayGraphGenerator generator, int previousArrayBuilds, Random random) {
+		this.generator = generator;
+		this.size = generator.neighbours.length;
+		generateQueries(previousArrayBuilds, random);
+	}
+	
+	private void generateQueries(int previousArrayBuilds, Random random) {
+		origins = new int[previousArrayBuilds];
+		for (int i = 0; i < previousArrayBuilds; ++i) {
+			origins[i] = random.nextInt(size);
+		}
+		// drawn after the origins so they stay the same as before
+		targets = new int[previousArrayBuilds];
+		for (int i = 0; i < previousArrayBuilds; ++i) {
+			targets[i] = random.nextInt(size);
+		}
+	}
+	
+	public int testOrigin(int randomSeed) {
+		return new Random(randomSeed).nextInt(size);
+	}
+	
+	public int testTarget(int randomSeed) {
+		Random random = new Random(randomSeed);
+		random.nextInt(size);
+		return random.nextInt(size);
+	}
+}
@@ -0,0 +1,78 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.astar.AStar;
+import dijkstra.astar.EuclideanHeuristic;
+import dijkstra.astar.Heuristic;
+import dijkstra.path.Route;
+import dijkstra.performance.PerformanceScenario;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueue;
+import dijkstra.priority.PriorityQueueFactory;
+
+public class SharedGraphAStarScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	PriorityQueueFactory priorityQueueFactory;
+	PriorityObjectFactory priorityObjectFactory;
+	Heuristic heuristic;
+	
+	double[] distance;
+	int[] previous;
+	PriorityObject[] priorityObjectArray;
+	PriorityQueue<PriorityObject> priorityQueue;
+	
+	// the graph has to come from generateRandomGeometricGraph
+	public SharedGraphAStarScenario(SharedGraph graph, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory) {
+		this(graph, priorityQueueFactory, priorityObjectFactory, new EuclideanHeuristic(graph.generator.x, graph.generator.y));
+	}
+	
+	public SharedGraphAStarScenario(SharedGraph graph, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory, Heuristic heuristic) {
+		this.graph = graph;
+		this.priorityQueueFactory = priorityQueueFactory;
+		this.priorityObjectFactory = priorityObjectFactory;
+		this.heuristic = heuristic;
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			query(graph.origins[i], graph.targets[i]);
+		}
+	}
+	
+	@Override
+	public void generateGraph() {
+		distance = new double[graph.size];
+		previous = new int[graph.size];
+		priorityQueue = priorityQueueFactory.createPriorityQueue(graph.size);
+		priorityObjectArray = new PriorityObject[graph.size];
+		for (int i = 0; i < graph.size; ++i) {
+			priorityObjectArray[i] = priorityObjectFactory.createPriorityObject(i, 0.0);
+		}
+	}
+	
+	// the path of the test query stands in for the previous array
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		Route route = query(graph.testOrigin(randomSeed), graph.testTarget(randomSeed));
+		return route == null ? new int[0] : route.path;
+	}
+	
+	public double averageSettledNodes() {
+		generateGraph();
+		long settledNodes = 0;
+		for (int i = 0; i < graph.origins.length; ++i) {
+			Route route = query(graph.origins[i], graph.targets[i]);
+			if (route != null) {
+				settledNodes += route.settledNodes;
+			}
+		}
+		return (double)settledNodes / graph.origins.length;
+	}
+	
+	private Route query(int origin, int target) {
+		return AStar.pointToPoint(graph.generator.neighbours, graph.generator.weights, heuristic, origin, target, distance, previous, priorityObjectArray, priorityQueue);
+	}
+}
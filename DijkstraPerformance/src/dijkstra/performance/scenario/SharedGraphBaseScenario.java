@@ -0,0 +1,36 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.performance.PerformanceScenario;
+
+public class SharedGraphBaseScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	
+	double[] distance;
+	int[] previous;
+	
+	public SharedGraphBaseScenario(SharedGraph graph) {
+		this.graph = graph;
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			BaseDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, graph.origins[i], distance, previous);
+		}
+	}
+	
+	@Override
+	public void generateGraph() {
+		distance = new double[graph.size];
+		previous = new int[graph.size];
+	}
+
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		BaseDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, graph.testOrigin(randomSeed), distance, previous);
+		return previous;
+	}
+}
@@ -0,0 +1,52 @@
+package dijkstra.performance.scenario;
+
+import java.util.concurrent.ExecutorService;
+
+import dijkstra.batch.BatchShortestPaths;
+import dijkstra.batch.ShortestPathCallback;
+import dijkstra.performance.PerformanceScenario;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueueFactory;
+
+public class SharedGraphBatchScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	PriorityQueueFactory priorityQueueFactory;
+	PriorityObjectFactory priorityObjectFactory;
+	ExecutorService executor;
+	int workers;
+	
+	BatchShortestPaths batch;
+	
+	// the results are only looked at, not copied
+	static final ShortestPathCallback IGNORE = new ShortestPathCallback() {
+		@Override
+		public void shortestPaths(int index, int origin, int[] previous, PriorityObject[] priorityObjectArray) {
+		}
+	};
+	
+	public SharedGraphBatchScenario(SharedGraph graph, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory, ExecutorService executor, int workers) {
+		this.graph = graph;
+		this.priorityQueueFactory = priorityQueueFactory;
+		this.priorityObjectFactory = priorityObjectFactory;
+		this.executor = executor;
+		this.workers = workers;
+	}
+	
+	@Override
+	public void runShortestPath() {
+		batch.run(graph.origins, IGNORE);
+	}
+	
+	@Override
+	public void generateGraph() {
+		batch = new BatchShortestPaths(graph.generator.neighbours, graph.generator.weights, priorityQueueFactory, priorityObjectFactory, executor, workers);
+	}
+	
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		return batch.createPreviousArrays(new int[] { graph.testOrigin(randomSeed) })[0];
+	}
+}
@@ -0,0 +1,64 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.ch.ContractionHierarchy;
+import dijkstra.ch.ContractionHierarchyBuilder;
+import dijkstra.ch.ContractionHierarchyQuery;
+import dijkstra.path.Route;
+import dijkstra.performance.PerformanceScenario;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueueFactory;
+
+public class SharedGraphContractionHierarchyScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	PriorityQueueFactory priorityQueueFactory;
+	PriorityObjectFactory priorityObjectFactory;
+	
+	public ContractionHierarchy hierarchy;
+	public double preprocessingTime;
+	
+	ContractionHierarchyQuery query;
+	
+	// the hierarchy is built once here, only the query workspace is recreated
+	public SharedGraphContractionHierarchyScenario(SharedGraph graph, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory) {
+		this.graph = graph;
+		this.priorityQueueFactory = priorityQueueFactory;
+		this.priorityObjectFactory = priorityObjectFactory;
+		
+		long start = System.nanoTime();
+		hierarchy = ContractionHierarchyBuilder.build(graph.generator.neighbours, graph.generator.weights, priorityQueueFactory, priorityObjectFactory);
+		preprocessingTime = (System.nanoTime() - start) / 1000000.0;
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			query.pointToPoint(graph.origins[i], graph.targets[i]);
+		}
+	}
+	
+	@Override
+	public void generateGraph() {
+		query = new ContractionHierarchyQuery(hierarchy, priorityQueueFactory, priorityObjectFactory);
+	}
+	
+	// the path of the test query stands in for the previous array
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		Route route = query.pointToPoint(graph.testOrigin(randomSeed), graph.testTarget(randomSeed));
+		return route == null ? new int[0] : route.path;
+	}
+	
+	public double averageSettledNodes() {
+		generateGraph();
+		long settledNodes = 0;
+		for (int i = 0; i < graph.origins.length; ++i) {
+			Route route = query.pointToPoint(graph.origins[i], graph.targets[i]);
+			if (route != null) {
+				settledNodes += route.settledNodes;
+			}
+		}
+		return (double)settledNodes / graph.origins.length;
+	}
+}
@@ -0,0 +1,40 @@
+package dijkstra.performance.scenario;
+
+import java.util.concurrent.ForkJoinPool;
+
+import dijkstra.delta.DeltaStepping;
+import dijkstra.performance.PerformanceScenario;
+
+public class SharedGraphDeltaSteppingScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	DeltaStepping engine;
+	
+	double[] distance;
+	int[] previous;
+	
+	public SharedGraphDeltaSteppingScenario(SharedGraph graph, ForkJoinPool pool) {
+		this.graph = graph;
+		engine = new DeltaStepping(graph.generator.neighbours, graph.generator.weights, pool);
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			engine.createPreviousArray(graph.origins[i], distance, previous);
+		}
+	}
+	
+	@Override
+	public void generateGraph() {
+		distance = new double[graph.size];
+		previous = new int[graph.size];
+	}
+	
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		engine.createPreviousArray(graph.testOrigin(randomSeed), distance, previous);
+		return previous;
+	}
+}
@@ -0,0 +1,52 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.dense.DenseDijkstra;
+import dijkstra.graph.AdjacencyMatrixGraph;
+import dijkstra.performance.PerformanceScenario;
+
+public class SharedGraphDenseScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	AdjacencyMatrixGraph matrixGraph;
+	
+	double[] distance;
+	int[] previous;
+	boolean[] settled;
+	
+	// with matrix set the engine runs on an adjacency matrix built once from the shared graph
+	public SharedGraphDenseScenario(SharedGraph graph, boolean matrix) {
+		this.graph = graph;
+		if (matrix) {
+			matrixGraph = AdjacencyMatrixGraph.fromNeighbourArrays(graph.generator.neighbours, graph.generator.weights);
+		}
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			createPreviousArray(graph.origins[i]);
+		}
+	}
+	
+	@Override
+	public void generateGraph() {
+		distance = new double[graph.size];
+		previous = new int[graph.size];
+		settled = new boolean[graph.size];
+	}
+	
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		createPreviousArray(graph.testOrigin(randomSeed));
+		return previous;
+	}
+	
+	private void createPreviousArray(int origin) {
+		if (matrixGraph != null) {
+			DenseDijkstra.createPreviousArray(matrixGraph, origin, distance, previous, settled);
+		} else {
+			DenseDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, origin, distance, previous, settled);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.bucket.DialBucketQueue;
+import dijkstra.bucket.DialDijkstra;
+import dijkstra.performance.PerformanceScenario;
+
+public class SharedGraphDialScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	int maxWeight;
+	
+	double[] distance;
+	int[] previous;
+	DialBucketQueue queue;
+	
+	public SharedGraphDialScenario(SharedGraph graph, int maxWeight) {
+		this.graph = graph;
+		this.maxWeight = maxWeight;
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			DialDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, graph.origins[i], distance, previous, queue);
+		}
+	}
+	
+	@Override
+	public void generateGraph() {
+		distance = new double[graph.size];
+		previous = new int[graph.size];
+		queue = new DialBucketQueue(graph.size, maxWeight);
+	}
+
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		DialDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, graph.testOrigin(randomSeed), distance, previous, queue);
+		return previous;
+	}
+}
@@ -0,0 +1,72 @@
+package dijkstra.performance.scenario;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+
+import dijkstra.indexed.IndexedBinaryHeap;
+import dijkstra.indexed.IndexedHeapDijkstra;
+import dijkstra.matrix.DistanceMatrix;
+import dijkstra.performance.PerformanceScenario;
+
+public class SharedGraphDistanceMatrixScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	ExecutorService executor;
+	int tasks;
+	
+	public int[] sources;
+	public int[] targets;
+	public double[][] matrix;
+	
+	// a null executor computes the matrix the old way, one full search per source
+	public SharedGraphDistanceMatrixScenario(SharedGraph graph, int sourceCount, int targetCount, ExecutorService executor, int tasks) {
+		this.graph = graph;
+		this.executor = executor;
+		this.tasks = tasks;
+		
+		Random random = new Random(42);
+		sources = new int[sourceCount];
+		for (int i = 0; i < sourceCount; ++i) {
+			sources[i] = random.nextInt(graph.size);
+		}
+		targets = new int[targetCount];
+		for (int j = 0; j < targetCount; ++j) {
+			targets[j] = random.nextInt(graph.size);
+		}
+	}
+	
+	@Override
+	public void runShortestPath() {
+		if (executor != null) {
+			matrix = DistanceMatrix.compute(graph.generator.neighbours, graph.generator.weights, sources, targets, executor, tasks);
+			return;
+		}
+		
+		double[] distance = new double[graph.size];
+		int[] previous = new int[graph.size];
+		IndexedBinaryHeap heap = new IndexedBinaryHeap(graph.size);
+		matrix = new double[sources.length][targets.length];
+		for (int i = 0; i < sources.length; ++i) {
+			IndexedHeapDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, sources[i], distance, previous, heap);
+			for (int j = 0; j < targets.length; ++j) {
+				matrix[i][j] = distance[targets[j]];
+			}
+		}
+	}
+	
+	@Override
+	public void generateGraph() {
+		matrix = null;
+	}
+	
+	// the matrix stands in for the previous array, see the matrix field
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		runShortestPath();
+		return new int[0];
+	}
+	
+	public long cells() {
+		return (long)sources.length * targets.length;
+	}
+}
@@ -0,0 +1,56 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.path.Route;
+import dijkstra.performance.PerformanceScenario;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueue;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.PriorityQueueFactory;
+import dijkstra.workspace.EpochWorkspace;
+
+public class SharedGraphEpochPointToPointScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	PriorityQueueFactory priorityQueueFactory;
+	PriorityObjectFactory priorityObjectFactory;
+	
+	EpochWorkspace workspace;
+	PriorityObject[] priorityObjectArray;
+	PriorityQueue<PriorityObject> priorityQueue;
+	
+	public SharedGraphEpochPointToPointScenario(SharedGraph graph, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory) {
+		this.graph = graph;
+		this.priorityQueueFactory = priorityQueueFactory;
+		this.priorityObjectFactory = priorityObjectFactory;
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			query(graph.origins[i], graph.targets[i]);
+		}
+	}
+	
+	@Override
+	public void generateGraph() {
+		workspace = new EpochWorkspace(graph.size);
+		priorityQueue = priorityQueueFactory.createPriorityQueue(graph.size);
+		priorityObjectArray = new PriorityObject[graph.size];
+		for (int i = 0; i < graph.size; ++i) {
+			priorityObjectArray[i] = priorityObjectFactory.createPriorityObject(i, 0.0);
+		}
+	}
+	
+	// the path of the test query stands in for the previous array
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		Route route = query(graph.testOrigin(randomSeed), graph.testTarget(randomSeed));
+		return route == null ? new int[0] : route.path;
+	}
+	
+	private Route query(int origin, int target) {
+		return PriorityQueueDijkstra.pointToPoint(graph.generator.neighbours, graph.generator.weights, origin, target, workspace, priorityObjectArray, priorityQueue);
+	}
+}
@@ -0,0 +1,48 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.hub.HubLabels;
+import dijkstra.hub.PrunedLandmarkLabeling;
+import dijkstra.performance.PerformanceScenario;
+
+public class SharedGraphHubLabelScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	
+	public HubLabels labels;
+	public double preprocessingTime;
+	
+	// keeps the lookups from being optimized away
+	public double checksum;
+	
+	public SharedGraphHubLabelScenario(SharedGraph graph) {
+		this.graph = graph;
+		
+		long start = System.nanoTime();
+		labels = PrunedLandmarkLabeling.build(graph.generator.neighbours, graph.generator.weights);
+		preprocessingTime = (System.nanoTime() - start) / 1000000.0;
+	}
+	
+	@Override
+	public void runShortestPath() {
+		double sum = 0.0;
+		for (int i = 0; i < graph.origins.length; ++i) {
+			sum += labels.distance(graph.origins[i], graph.targets[i]);
+		}
+		checksum = sum;
+	}
+	
+	// the labels are immutable, there is no workspace to recreate
+	@Override
+	public void generateGraph() {
+	}
+	
+	// hub labels answer distances only, see testDistance
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		return new int[0];
+	}
+	
+	public double testDistance(int randomSeed) {
+		return labels.distance(graph.testOrigin(randomSeed), graph.testTarget(randomSeed));
+	}
+}
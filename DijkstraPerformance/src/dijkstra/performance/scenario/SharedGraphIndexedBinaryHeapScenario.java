@@ -0,0 +1,39 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.indexed.IndexedBinaryHeap;
+import dijkstra.indexed.IndexedHeapDijkstra;
+import dijkstra.performance.PerformanceScenario;
+
+public class SharedGraphIndexedBinaryHeapScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	
+	double[] distance;
+	int[] previous;
+	IndexedBinaryHeap heap;
+	
+	public SharedGraphIndexedBinaryHeapScenario(SharedGraph graph) {
+		this.graph = graph;
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			IndexedHeapDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, graph.origins[i], distance, previous, heap);
+		}
+	}
+	
+	@Override
+	public void generateGraph() {
+		distance = new double[graph.size];
+		previous = new int[graph.size];
+		heap = new IndexedBinaryHeap(graph.size);
+	}
+
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		IndexedHeapDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, graph.testOrigin(randomSeed), distance, previous, heap);
+		return previous;
+	}
+}
@@ -0,0 +1,88 @@
+package dijkstra.performance.scenario;
+
+import java.io.File;
+import java.io.IOException;
+
+import dijkstra.graph.CompressedSparseRowGraph;
+import dijkstra.graph.MappedGraph;
+import dijkstra.performance.PerformanceScenario;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueue;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.PriorityQueueFactory;
+
+public class SharedGraphMappedScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	PriorityQueueFactory priorityQueueFactory;
+	PriorityObjectFactory priorityObjectFactory;
+	
+	// exactly one of them is set
+	public CompressedSparseRowGraph heapGraph;
+	public MappedGraph mappedGraph;
+	public double writeTime;
+	public double openTime;
+	
+	int[] previous;
+	PriorityObject[] priorityObjectArray;
+	PriorityQueue<PriorityObject> priorityQueue;
+	
+	// with mapped set the shared graph is written to file and the engine runs on the mapping,
+	// otherwise on a compressed sparse row graph on the heap with the same layout
+	public SharedGraphMappedScenario(SharedGraph graph, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory, File file, boolean mapped) {
+		this.graph = graph;
+		this.priorityQueueFactory = priorityQueueFactory;
+		this.priorityObjectFactory = priorityObjectFactory;
+		
+		if (!mapped) {
+			heapGraph = CompressedSparseRowGraph.fromNeighbourArrays(graph.generator.neighbours, graph.generator.weights);
+			return;
+		}
+		
+		try {
+			long start = System.nanoTime();
+			MappedGraph.write(graph.generator.neighbours, graph.generator.weights, file);
+			writeTime = (System.nanoTime() - start) / 1000000.0;
+			
+			start = System.nanoTime();
+			mappedGraph = MappedGraph.open(file);
+			openTime = (System.nanoTime() - start) / 1000000.0;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			createPreviousArray(graph.origins[i]);
+		}
+	}
+	
+	// the graph is shared, only the working arrays and the queue are recreated
+	@Override
+	public void generateGraph() {
+		previous = new int[graph.size];
+		priorityQueue = priorityQueueFactory.createPriorityQueue(graph.size);
+		priorityObjectArray = new PriorityObject[graph.size];
+		for (int i = 0; i < graph.size; ++i) {
+			priorityObjectArray[i] = priorityObjectFactory.createPriorityObject(i, 0.0);
+		}
+	}
+	
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		createPreviousArray(graph.testOrigin(randomSeed));
+		return previous;
+	}
+	
+	private void createPreviousArray(int origin) {
+		if (mappedGraph != null) {
+			PriorityQueueDijkstra.createPreviousArrayLazy(mappedGraph, origin, previous, priorityObjectArray, priorityQueue);
+		} else {
+			PriorityQueueDijkstra.createPreviousArrayLazy(heapGraph, origin, previous, priorityObjectArray, priorityQueue);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.graph.CompressedSparseRowGraph;
+import dijkstra.graph.Graph;
+import dijkstra.graph.OffHeapGraph;
+import dijkstra.performance.PerformanceScenario;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueue;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.PriorityQueueFactory;
+
+public class SharedGraphOffHeapScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	PriorityQueueFactory priorityQueueFactory;
+	PriorityObjectFactory priorityObjectFactory;
+	
+	// null for the neighbour arrays on the heap
+	public Graph compressedGraph;
+	
+	int[] previous;
+	PriorityObject[] priorityObjectArray;
+	PriorityQueue<PriorityObject> priorityQueue;
+	
+	// with compressed set the engine runs through the Graph overload on a compressed sparse row copy,
+	// kept off the heap with offHeap set; after the copy the generator of the shared graph can be dropped
+	public SharedGraphOffHeapScenario(SharedGraph graph, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory, boolean compressed, boolean offHeap) {
+		this.graph = graph;
+		this.priorityQueueFactory = priorityQueueFactory;
+		this.priorityObjectFactory = priorityObjectFactory;
+		if (compressed && offHeap) {
+			compressedGraph = OffHeapGraph.fromNeighbourArrays(graph.generator.neighbours, graph.generator.weights);
+		} else if (compressed) {
+			compressedGraph = CompressedSparseRowGraph.fromNeighbourArrays(graph.generator.neighbours, graph.generator.weights);
+		}
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			createPreviousArray(graph.origins[i]);
+		}
+	}
+	
+	// the graph is shared, only the working arrays and the queue are recreated
+	@Override
+	public void generateGraph() {
+		previous = new int[graph.size];
+		priorityQueue = priorityQueueFactory.createPriorityQueue(graph.size);
+		priorityObjectArray = new PriorityObject[graph.size];
+		for (int i = 0; i < graph.size; ++i) {
+			priorityObjectArray[i] = priorityObjectFactory.createPriorityObject(i, 0.0);
+		}
+	}
+	
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		createPreviousArray(graph.testOrigin(randomSeed));
+		return previous;
+	}
+	
+	private void createPreviousArray(int origin) {
+		if (compressedGraph != null) {
+			PriorityQueueDijkstra.createPreviousArrayLazy(compressedGraph, origin, previous, priorityObjectArray, priorityQueue);
+		} else {
+			PriorityQueueDijkstra.createPreviousArrayLazy(graph.generator.neighbours, graph.generator.weights, origin, previous, priorityObjectArray, priorityQueue);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.bidirectional.BidirectionalDijkstra;
+import dijkstra.graph.ReverseNeighbourArrayGraph;
+import dijkstra.path.Route;
+import dijkstra.performance.PerformanceScenario;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueue;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.PriorityQueueFactory;
+
+public class SharedGraphPointToPointScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	PriorityQueueFactory priorityQueueFactory;
+	PriorityObjectFactory priorityObjectFactory;
+	boolean bidirectional;
+	
+	ReverseNeighbourArrayGraph reverse;
+	int[] previous;
+	int[] next;
+	PriorityObject[] forwardObjectArray;
+	PriorityObject[] backwardObjectArray;
+	PriorityQueue<PriorityObject> forwardQueue;
+	PriorityQueue<PriorityObject> backwardQueue;
+	
+	public SharedGraphPointToPointScenario(SharedGraph graph, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory, boolean bidirectional) {
+		this.graph = graph;
+		this.priorityQueueFactory = priorityQueueFactory;
+		this.priorityObjectFactory = priorityObjectFactory;
+		this.bidirectional = bidirectional;
+		if (bidirectional) {
+			reverse = new ReverseNeighbourArrayGraph(graph.generator.neighbours, graph.generator.weights);
+		}
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			query(graph.origins[i], graph.targets[i]);
+		}
+	}
+	
+	@Override
+	public void generateGraph() {
+		previous = new int[graph.size];
+		next = new int[graph.size];
+		forwardQueue = priorityQueueFactory.createPriorityQueue(graph.size);
+		backwardQueue = priorityQueueFactory.createPriorityQueue(graph.size);
+		forwardObjectArray = new PriorityObject[graph.size];
+		backwardObjectArray = new PriorityObject[graph.size];
+		for (int i = 0; i < graph.size; ++i) {
+			forwardObjectArray[i] = priorityObjectFactory.createPriorityObject(i, 0.0);
+			backwardObjectArray[i] = priorityObjectFactory.createPriorityObject(i, 0.0);
+		}
+	}
+	
+	// the path of the test query stands in for the previous array
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		Route route = query(graph.testOrigin(randomSeed), graph.testTarget(randomSeed));
+		return route == null ? new int[0] : route.path;
+	}
+	
+	public double testDistance(int randomSeed) {
+		generateGraph();
+		Route route = query(graph.testOrigin(randomSeed), graph.testTarget(randomSeed));
+		return route == null ? Double.MAX_VALUE : route.distance;
+	}
+	
+	public double averageSettledNodes() {
+		generateGraph();
+		long settledNodes = 0;
+		for (int i = 0; i < graph.origins.length; ++i) {
+			Route route = query(graph.origins[i], graph.targets[i]);
+			if (route != null) {
+				settledNodes += route.settledNodes;
+			}
+		}
+		return (double)settledNodes / graph.origins.length;
+	}
+	
+	private Route query(int origin, int target) {
+		if (bidirectional) {
+			return BidirectionalDijkstra.pointToPoint(graph.generator.neighbours, graph.generator.weights, reverse, origin, target, previous, next, forwardObjectArray, backwardObjectArray, forwardQueue, backwardQueue);
+		}
+		return PriorityQueueDijkstra.pointToPoint(graph.generator.neighbours, graph.generator.weights, origin, target, previous, forwardObjectArray, forwardQueue);
+	}
+}
@@ -0,0 +1,64 @@
+package dijkstra.performance.scenario;
+
+import dijkstra.performance.PerformanceScenario;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityObjectFactory;
+import dijkstra.priority.PriorityQueue;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.PriorityQueueFactory;
+
+public class SharedGraphPriorityQueueScenario implements PerformanceScenario {
+	
+	SharedGraph graph;
+	PriorityQueueFactory priorityQueueFactory;
+	PriorityObjectFactory priorityObjectFactory;
+	boolean lazy;
+	
+	int[] previous;
+	PriorityObject[] priorityObjectArray;
+	PriorityQueue<PriorityObject> priorityQueue;
+	
+	public SharedGraphPriorityQueueScenario(SharedGraph graph, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory) {
+		this(graph, priorityQueueFactory, priorityObjectFactory, false);
+	}
+	
+	public SharedGraphPriorityQueueScenario(SharedGraph graph, PriorityQueueFactory priorityQueueFactory, PriorityObjectFactory priorityObjectFactory, boolean lazy) {
+		this.graph = graph;
+		this.priorityQueueFactory = priorityQueueFactory;
+		this.priorityObjectFactory = priorityObjectFactory;
+		this.lazy = lazy;
+	}
+	
+	@Override
+	public void runShortestPath() {
+		for (int i = 0; i < graph.origins.length; ++i) {
+			createPreviousArray(graph.origins[i]);
+		}
+	}
+	
+	// the graph is shared, only the working arrays and the queue are recreated
+	@Override
+	public void generateGraph() {
+		previous = new int[graph.size];
+		priorityQueue = priorityQueueFactory.createPriorityQueue(graph.size);
+		priorityObjectArray = new PriorityObject[graph.size];
+		for (int i = 0; i < graph.size; ++i) {
+			priorityObjectArray[i] = priorityObjectFactory.createPriorityObject(i, 0.0);
+		}
+	}
+	
+	@Override
+	public int[] testPrevious(int randomSeed) {
+		generateGraph();
+		createPreviousArray(graph.testOrigin(randomSeed));
+		return previous;
+	}
+	
+	private void createPreviousArray(int origin) {
+		if (lazy) {
+			PriorityQueueDijkstra.createPreviousArrayLazy(graph.generator.neighbours, graph.generator.weights, origin, previous, priorityObjectArray, priorityQueue);
+		} else {
+			PriorityQueueDijkstra.createPreviousArray(graph.generator.neighbours, graph.generator.weights, origin, previous, priorityObjectArray, priorityQueue);
+		}
+	}
+}
@@ -0,0 +1,5 @@
+package dijkstra.priority;
+
+public interface PriorityObjectFactory {
+	public PriorityObject createPriorityObject(int node, double priority);
+}
@@ -3,6 +3,8 @@ package dijkstra.priority;
 public interface PriorityQueue<E extends PriorityObject> {
 	public void add(E item);
 	public void decreasePriority(E item, double priority);
+	// items with Double.MAX_VALUE priority are treated as not yet in the queue
+	public void insertOrDecrease(E item, double priority);
 	public E extractMin();
 	public void clear();
 	public int size();
@@ -1,6 +1,10 @@
 package dijkstra.priority;
 
-import java.util.LinkedList;
+import dijkstra.graph.CompressedSparseRowGraph;
+import dijkstra.graph.Graph;
+import dijkstra.path.PathExtractor;
+import dijkstra.path.Route;
+import dijkstra.workspace.EpochWorkspace;
 
 public class PriorityQueueDijkstra {
 	
@@ -39,24 +43,251 @@ public class PriorityQueueDijkstra {
 		}
 	}
 	
-	public static int[] shortestPath(int[] previous, int destination) {
-		if (previous[destination] == -1) {
-			return null;
+	public static void createPreviousArrayLazy(int[][] neighbours, double[][] weights, int source, int[] previous, PriorityObject[] priorityObjectArray, PriorityQueue<PriorityObject> priorityQueue) {
+
+		for (int i = 0; i < priorityObjectArray.length; ++i) {
+			priorityObjectArray[i].priority = Double.MAX_VALUE;
+			previous[i] = -1;
+		}
+
+		// only the source is in the queue, the rest is added when first reached
+		priorityQueue.clear();
+		priorityQueue.insertOrDecrease(priorityObjectArray[source], 0.0);
+
+		while (priorityQueue.size() != 0) {
+
+			// extract min
+			PriorityObject min = priorityQueue.extractMin();
+			int u = min.node;
+
+			// find the neighbours
+			if (neighbours[u] == null) {
+				continue;
+			}
+
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				double alt = priorityObjectArray[u].priority + weights[u][i];
+				if (alt < priorityObjectArray[neighbours[u][i]].priority) {
+					priorityQueue.insertOrDecrease(priorityObjectArray[neighbours[u][i]], alt);
+					previous[neighbours[u][i]] = u;
+				}
+			}
 		}
+	}
+
+	public static void createPreviousArray(CompressedSparseRowGraph graph, int source, int[] previous, PriorityObject[] priorityObjectArray, PriorityQueue<PriorityObject> priorityQueue) {
 		
-		LinkedList<Integer> reversedRoute = new LinkedList<>();
-		int u = destination;
+		int[] offsets = graph.offsets;
+		int[] targets = graph.targets;
+		double[] weights = graph.weights;
 		
-		while (u != -1) {
-			reversedRoute.add(u);
-			u = previous[u];
+		for (int i = 0; i < priorityObjectArray.length; ++i) {
+			priorityObjectArray[i].priority = Double.MAX_VALUE;
+			previous[i] = -1;
 		}
 		
-		int[] path = new int[reversedRoute.size()];
-		for (int i = 0; i < path.length; ++i) {
-			path[i] = reversedRoute.get(path.length - 1 - i);
+		priorityObjectArray[source].priority = 0.0;
+		
+		priorityQueue.clear();
+		for (int i = 0; i < priorityObjectArray.length; ++i) {
+			priorityQueue.add(priorityObjectArray[i]);
 		}
 		
-		return path;
+		while (priorityQueue.size() != 0) {
+			
+			// extract min
+			PriorityObject min = priorityQueue.extractMin();
+			int u = min.node;
+			
+			// the arcs of u are contiguous in the targets and weights arrays
+			for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+				double alt = min.priority + weights[i];
+				if (alt < priorityObjectArray[targets[i]].priority) {
+					priorityQueue.decreasePriority(priorityObjectArray[targets[i]], alt);
+					previous[targets[i]] = u;
+				}
+			}
+		}
+	}
+	
+	public static void createPreviousArrayLazy(CompressedSparseRowGraph graph, int source, int[] previous, PriorityObject[] priorityObjectArray, PriorityQueue<PriorityObject> priorityQueue) {
+		
+		int[] offsets = graph.offsets;
+		int[] targets = graph.targets;
+		double[] weights = graph.weights;
+		
+		for (int i = 0; i < priorityObjectArray.length; ++i) {
+			priorityObjectArray[i].priority = Double.MAX_VALUE;
+			previous[i] = -1;
+		}
+		
+		// only the source is in the queue, the rest is added when first reached
+		priorityQueue.clear();
+		priorityQueue.insertOrDecrease(priorityObjectArray[source], 0.0);
+		
+		while (priorityQueue.size() != 0) {
+			
+			// extract min
+			PriorityObject min = priorityQueue.extractMin();
+			int u = min.node;
+			
+			// the arcs of u are contiguous in the targets and weights arrays
+			for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+				double alt = min.priority + weights[i];
+				if (alt < priorityObjectArray[targets[i]].priority) {
+					priorityQueue.insertOrDecrease(priorityObjectArray[targets[i]], alt);
+					previous[targets[i]] = u;
+				}
+			}
+		}
+	}
+	
+	// the same search over any graph layout, e.g. a mapped file or off-heap buffers
+	public static void createPreviousArrayLazy(Graph graph, int source, int[] previous, PriorityObject[] priorityObjectArray, PriorityQueue<PriorityObject> priorityQueue) {
+		
+		for (int i = 0; i < priorityObjectArray.length; ++i) {
+			priorityObjectArray[i].priority = Double.MAX_VALUE;
+			previous[i] = -1;
+		}
+		
+		// only the source is in the queue, the rest is added when first reached
+		priorityQueue.clear();
+		priorityQueue.insertOrDecrease(priorityObjectArray[source], 0.0);
+		
+		while (priorityQueue.size() != 0) {
+			
+			// extract min
+			PriorityObject min = priorityQueue.extractMin();
+			int u = min.node;
+			
+			long end = graph.offset(u + 1);
+			for (long i = graph.offset(u); i < end; ++i) {
+				int v = graph.target(i);
+				double alt = min.priority + graph.weight(i);
+				if (alt < priorityObjectArray[v].priority) {
+					priorityQueue.insertOrDecrease(priorityObjectArray[v], alt);
+					previous[v] = u;
+				}
+			}
+		}
+	}
+	
+	public static Route pointToPoint(int[][] neighbours, double[][] weights, int source, int target, int[] previous, PriorityObject[] priorityObjectArray, PriorityQueue<PriorityObject> priorityQueue) {
+		
+		for (int i = 0; i < priorityObjectArray.length; ++i) {
+			priorityObjectArray[i].priority = Double.MAX_VALUE;
+			previous[i] = -1;
+		}
+		
+		priorityQueue.clear();
+		priorityQueue.insertOrDecrease(priorityObjectArray[source], 0.0);
+		
+		int settledNodes = 0;
+		
+		while (priorityQueue.size() != 0) {
+			
+			// extract min
+			PriorityObject min = priorityQueue.extractMin();
+			int u = min.node;
+			++settledNodes;
+			
+			// the distance of the target is final once it is extracted
+			if (u == target) {
+				return Route.fromPrevious(previous, source, target, min.priority, settledNodes);
+			}
+			
+			// find the neighbours
+			if (neighbours[u] == null) {
+				continue;
+			}
+			
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				double alt = min.priority + weights[u][i];
+				if (alt < priorityObjectArray[neighbours[u][i]].priority) {
+					priorityQueue.insertOrDecrease(priorityObjectArray[neighbours[u][i]], alt);
+					previous[neighbours[u][i]] = u;
+				}
+			}
+		}
+		
+		return null;
+	}
+	
+	// only the nodes the search reaches are touched, a priority object is reset when its node is first reached
+	public static void createPreviousArrayLazy(int[][] neighbours, double[][] weights, int source, EpochWorkspace workspace, PriorityObject[] priorityObjectArray, PriorityQueue<PriorityObject> priorityQueue) {
+		
+		workspace.nextQuery();
+		workspace.set(source, 0.0, -1);
+		
+		priorityQueue.clear();
+		priorityObjectArray[source].priority = Double.MAX_VALUE;
+		priorityQueue.insertOrDecrease(priorityObjectArray[source], 0.0);
+		
+		while (priorityQueue.size() != 0) {
+			
+			// extract min
+			PriorityObject min = priorityQueue.extractMin();
+			int u = min.node;
+			
+			// find the neighbours
+			if (neighbours[u] == null) {
+				continue;
+			}
+			
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				relax(neighbours[u][i], u, min.priority + weights[u][i], workspace, priorityObjectArray, priorityQueue);
+			}
+		}
+	}
+	
+	public static Route pointToPoint(int[][] neighbours, double[][] weights, int source, int target, EpochWorkspace workspace, PriorityObject[] priorityObjectArray, PriorityQueue<PriorityObject> priorityQueue) {
+		
+		workspace.nextQuery();
+		workspace.set(source, 0.0, -1);
+		
+		priorityQueue.clear();
+		priorityObjectArray[source].priority = Double.MAX_VALUE;
+		priorityQueue.insertOrDecrease(priorityObjectArray[source], 0.0);
+		
+		int settledNodes = 0;
+		
+		while (priorityQueue.size() != 0) {
+			
+			// extract min
+			PriorityObject min = priorityQueue.extractMin();
+			int u = min.node;
+			++settledNodes;
+			
+			// the distance of the target is final once it is extracted
+			if (u == target) {
+				return Route.fromPrevious(workspace.previous, source, target, min.priority, settledNodes);
+			}
+			
+			// find the neighbours
+			if (neighbours[u] == null) {
+				continue;
+			}
+			
+			for (int i = 0; i < neighbours[u].length; ++i) {
+				relax(neighbours[u][i], u, min.priority + weights[u][i], workspace, priorityObjectArray, priorityQueue);
+			}
+		}
+		
+		return null;
+	}
+	
+	private static void relax(int v, int u, double alt, EpochWorkspace workspace, PriorityObject[] priorityObjectArray, PriorityQueue<PriorityObject> priorityQueue) {
+		if (!workspace.reached(v)) {
+			// the object may still hold a priority from an earlier query
+			priorityObjectArray[v].priority = Double.MAX_VALUE;
+		} else if (alt >= workspace.distance[v]) {
+			return;
+		}
+		priorityQueue.insertOrDecrease(priorityObjectArray[v], alt);
+		workspace.set(v, alt, u);
+	}
+	
+	public static int[] shortestPath(int[] previous, int destination) {
+		return PathExtractor.path(previous, destination);
 	}		
 }
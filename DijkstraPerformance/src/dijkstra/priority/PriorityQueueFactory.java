@@ -0,0 +1,5 @@
+package dijkstra.priority;
+
+public interface PriorityQueueFactory {
+	public PriorityQueue<PriorityObject> createPriorityQueue(int size);
+}
@@ -0,0 +1,16 @@
+package dijkstra.priority;
+
+public class PriorityQueues {
+	
+	// insertOrDecrease for queues that keep no membership index of their own,
+	// an item with Double.MAX_VALUE priority is not in the queue yet
+	public static <E extends PriorityObject> void insertOrDecrease(PriorityQueue<E> priorityQueue, E item, double priority) {
+		if (item.priority == Double.MAX_VALUE) {
+			item.priority = priority;
+			priorityQueue.add(item);
+		} else {
+			priorityQueue.decreasePriority(item, priority);
+		}
+	}
+	
+}
@@ -0,0 +1,127 @@
+package dijkstra.priority.impl;
+
+import dijkstra.priority.PriorityObject;
+
+public class DaryHeapPriorityQueue implements dijkstra.priority.PriorityQueue<PriorityObject> {
+	
+	final int arity;
+	
+	// heap positions are indexed by the node id of the priority objects
+	PriorityObject[] heap;
+	int[] positions;
+	int heapSize = 0;
+	
+	public DaryHeapPriorityQueue(int arity, int capacity) {
+		if (arity < 2) {
+			throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+		}
+		this.arity = arity;
+		heap = new PriorityObject[capacity];
+		positions = new int[capacity];
+		for (int i = 0; i < capacity; ++i) {
+			positions[i] = -1;
+		}
+	}
+
+	@Override
+	public void add(PriorityObject item) {
+		heap[heapSize] = item;
+		positions[item.node] = heapSize;
+		++heapSize;
+		siftUp(heapSize - 1);
+	}
+
+	@Override
+	public void decreasePriority(PriorityObject item, double priority) {
+		item.priority = priority;
+		siftUp(positions[item.node]);
+	}
+
+	@Override
+	public void insertOrDecrease(PriorityObject item, double priority) {
+		if (positions[item.node] == -1) {
+			item.priority = priority;
+			add(item);
+		} else {
+			decreasePriority(item, priority);
+		}
+	}
+
+	@Override
+	public PriorityObject extractMin() {
+		if (heapSize == 0) {
+			return null;
+		}
+		PriorityObject min = heap[0];
+		positions[min.node] = -1;
+		--heapSize;
+		if (heapSize > 0) {
+			heap[0] = heap[heapSize];
+			positions[heap[0].node] = 0;
+			siftDown(0);
+		}
+		heap[heapSize] = null;
+		return min;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < heapSize; ++i) {
+			positions[heap[i].node] = -1;
+			heap[i] = null;
+		}
+		heapSize = 0;
+	}
+
+	@Override
+	public int size() {
+		return heapSize;
+	}
+	
+	private void siftUp(int position) {
+		PriorityObject item = heap[position];
+		double priority = item.priority;
+		while (position > 0) {
+			int parentPosition = (position - 1) / arity;
+			PriorityObject parent = heap[parentPosition];
+			if (parent.priority <= priority) {
+				break;
+			}
+			heap[position] = parent;
+			positions[parent.node] = position;
+			position = parentPosition;
+		}
+		heap[position] = item;
+		positions[item.node] = position;
+	}
+	
+	private void siftDown(int position) {
+		PriorityObject item = heap[position];
+		double priority = item.priority;
+		while (true) {
+			int firstChild = position * arity + 1;
+			if (firstChild >= heapSize) {
+				break;
+			}
+			// find the smallest child
+			int lastChild = Math.min(firstChild + arity, heapSize);
+			int minChild = firstChild;
+			double minPriority = heap[firstChild].priority;
+			for (int i = firstChild + 1; i < lastChild; ++i) {
+				if (heap[i].priority < minPriority) {
+					minChild = i;
+					minPriority = heap[i].priority;
+				}
+			}
+			if (priority <= minPriority) {
+				break;
+			}
+			heap[position] = heap[minChild];
+			positions[heap[position].node] = position;
+			position = minChild;
+		}
+		heap[position] = item;
+		positions[item.node] = position;
+	}
+
+}
@@ -4,6 +4,7 @@ import com.growingwiththeweb.dataStructures.FibonacciHeap;
 import com.growingwiththeweb.dataStructures.FibonacciHeap.Node;
 
 import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueues;
 
 public class GrowingWithTheWebFibonacciPriorityQueue implements dijkstra.priority.PriorityQueue<PriorityObject> {
 	
@@ -23,6 +24,11 @@ public class GrowingWithTheWebFibonacciPriorityQueue implements dijkstra.priorit
 		heap.decreaseKey(((GrowingWithTheWebDijkstraPriorityObject)item).node, item);
 	}
 
+	@Override
+	public void insertOrDecrease(PriorityObject item, double priority) {
+		PriorityQueues.insertOrDecrease(this, item, priority);
+	}
+
 	@Override
 	public PriorityObject extractMin() {
 		if (heapSize > 0) {
@@ -4,6 +4,7 @@ import com.keithschwarz.FibonacciHeap;
 import com.keithschwarz.FibonacciHeap.Entry;
 
 import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueues;
 
 public class KeithschwarzFibonacciPriorityQueue implements dijkstra.priority.PriorityQueue<PriorityObject> {
 	
@@ -21,6 +22,11 @@ public class KeithschwarzFibonacciPriorityQueue implements dijkstra.priority.Pri
 		heap.decreaseKey(((KeithschwarzDijkstraPriorityObject)item).entry, priority);
 	}
 
+	@Override
+	public void insertOrDecrease(PriorityObject item, double priority) {
+		PriorityQueues.insertOrDecrease(this, item, priority);
+	}
+
 	@Override
 	public PriorityObject extractMin() {
 		return heap.dequeueMin().getValue();
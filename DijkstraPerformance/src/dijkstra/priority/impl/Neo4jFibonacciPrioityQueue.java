@@ -5,6 +5,7 @@ import java.util.Comparator;
 import org.neo4j.graphalgo.impl.util.FibonacciHeap;
 
 import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueues;
 
 public class Neo4jFibonacciPrioityQueue implements dijkstra.priority.PriorityQueue<PriorityObject> {
 	
@@ -29,6 +30,11 @@ public class Neo4jFibonacciPrioityQueue implements dijkstra.priority.PriorityQue
 		heap.decreaseKey(((Neo4jDijkstraPriorityObject)item).node, item);
 	}
 
+	@Override
+	public void insertOrDecrease(PriorityObject item, double priority) {
+		PriorityQueues.insertOrDecrease(this, item, priority);
+	}
+
 	@Override
 	public PriorityObject extractMin() {
 		return heap.extractMin();
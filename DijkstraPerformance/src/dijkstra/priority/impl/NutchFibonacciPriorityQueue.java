@@ -3,6 +3,7 @@ package dijkstra.priority.impl;
 import org.apache.nutch.util.FibonacciHeap;
 
 import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueues;
 
 public class NutchFibonacciPriorityQueue implements dijkstra.priority.PriorityQueue<PriorityObject> {
 	
@@ -19,6 +20,11 @@ public class NutchFibonacciPriorityQueue implements dijkstra.priority.PriorityQu
 		heap.decreaseKey(item, priority);
 	}
 
+	@Override
+	public void insertOrDecrease(PriorityObject item, double priority) {
+		PriorityQueues.insertOrDecrease(this, item, priority);
+	}
+
 	@Override
 	public PriorityObject extractMin() {
 		return (PriorityObject) heap.popMin();
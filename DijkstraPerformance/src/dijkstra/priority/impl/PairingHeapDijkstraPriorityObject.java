@@ -0,0 +1,16 @@
+package dijkstra.priority.impl;
+
+import dijkstra.priority.PriorityObject;
+
+public class PairingHeapDijkstraPriorityObject extends PriorityObject {
+	
+	// intrusive heap links: previous is the parent for the leftmost child, otherwise the left sibling
+	public PairingHeapDijkstraPriorityObject child;
+	public PairingHeapDijkstraPriorityObject sibling;
+	public PairingHeapDijkstraPriorityObject previous;
+
+	public PairingHeapDijkstraPriorityObject(int node, double distance) {
+		super(node, distance);
+	}
+
+}
@@ -0,0 +1,123 @@
+package dijkstra.priority.impl;
+
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueues;
+
+public class PairingHeapPriorityQueue implements dijkstra.priority.PriorityQueue<PriorityObject> {
+	
+	PairingHeapDijkstraPriorityObject root = null;
+	int heapSize = 0;
+
+	@Override
+	public void add(PriorityObject item) {
+		PairingHeapDijkstraPriorityObject node = (PairingHeapDijkstraPriorityObject)item;
+		node.child = null;
+		node.sibling = null;
+		node.previous = null;
+		root = root == null ? node : link(root, node);
+		++heapSize;
+	}
+
+	@Override
+	public void decreasePriority(PriorityObject item, double priority) {
+		PairingHeapDijkstraPriorityObject node = (PairingHeapDijkstraPriorityObject)item;
+		node.priority = priority;
+		if (node == root) {
+			return;
+		}
+		// cut the subtree of the node and meld it with the root
+		if (node.previous.child == node) {
+			node.previous.child = node.sibling;
+		} else {
+			node.previous.sibling = node.sibling;
+		}
+		if (node.sibling != null) {
+			node.sibling.previous = node.previous;
+		}
+		node.sibling = null;
+		node.previous = null;
+		root = link(root, node);
+	}
+
+	@Override
+	public void insertOrDecrease(PriorityObject item, double priority) {
+		PriorityQueues.insertOrDecrease(this, item, priority);
+	}
+
+	@Override
+	public PriorityObject extractMin() {
+		if (heapSize == 0) {
+			return null;
+		}
+		PairingHeapDijkstraPriorityObject min = root;
+		root = mergePairs(min.child);
+		min.child = null;
+		--heapSize;
+		return min;
+	}
+
+	@Override
+	public void clear() {
+		root = null;
+		heapSize = 0;
+	}
+
+	@Override
+	public int size() {
+		return heapSize;
+	}
+	
+	// both parameters have to be roots without siblings
+	private PairingHeapDijkstraPriorityObject link(PairingHeapDijkstraPriorityObject a, PairingHeapDijkstraPriorityObject b) {
+		if (b.priority < a.priority) {
+			PairingHeapDijkstraPriorityObject swap = a;
+			a = b;
+			b = swap;
+		}
+		b.sibling = a.child;
+		if (a.child != null) {
+			a.child.previous = b;
+		}
+		b.previous = a;
+		a.child = b;
+		return a;
+	}
+	
+	private PairingHeapDijkstraPriorityObject mergePairs(PairingHeapDijkstraPriorityObject first) {
+		if (first == null) {
+			return null;
+		}
+		
+		// first pass: link pairs from left to right, the results are chained in reverse order through previous
+		PairingHeapDijkstraPriorityObject pairs = null;
+		PairingHeapDijkstraPriorityObject a = first;
+		while (a != null) {
+			PairingHeapDijkstraPriorityObject b = a.sibling;
+			PairingHeapDijkstraPriorityObject next = null;
+			a.sibling = null;
+			a.previous = null;
+			if (b != null) {
+				next = b.sibling;
+				b.sibling = null;
+				b.previous = null;
+				a = link(a, b);
+			}
+			a.previous = pairs;
+			pairs = a;
+			a = next;
+		}
+		
+		// second pass: meld the pairs from right to left
+		PairingHeapDijkstraPriorityObject result = pairs;
+		pairs = pairs.previous;
+		result.previous = null;
+		while (pairs != null) {
+			PairingHeapDijkstraPriorityObject next = pairs.previous;
+			pairs.previous = null;
+			result = link(result, pairs);
+			pairs = next;
+		}
+		return result;
+	}
+
+}
@@ -4,6 +4,7 @@ import com.pengyifan.commons.collections.heap.FibonacciHeap;
 import com.pengyifan.commons.collections.heap.FibonacciHeap.Entry;
 
 import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueues;
 
 public class PengyifanFibonacciPriorityQueue implements dijkstra.priority.PriorityQueue<PriorityObject> {
 
@@ -24,6 +25,11 @@ public class PengyifanFibonacciPriorityQueue implements dijkstra.priority.Priori
 		heap.decreaseKey(((PengyifanDijkstraPriorityObject)item).entry, priority);
 	}
 
+	@Override
+	public void insertOrDecrease(PriorityObject item, double priority) {
+		PriorityQueues.insertOrDecrease(this, item, priority);
+	}
+
 	@Override
 	public PriorityObject extractMin() {
 		if (heapSize > 0) {
@@ -0,0 +1,147 @@
+package dijkstra.priority.impl;
+
+import dijkstra.priority.PriorityObject;
+
+public class RadixHeapPriorityQueue implements dijkstra.priority.PriorityQueue<PriorityObject> {
+	
+	// the bits of a non-negative double are ordered the same way as its value, bucket 0 holds the
+	// keys equal to the last extracted minimum and bucket i the keys differing from it first at bit i - 1
+	static final int BUCKETS = 64;
+	
+	PriorityObject[][] buckets = new PriorityObject[BUCKETS][];
+	int[] bucketSizes = new int[BUCKETS];
+	
+	// bucket and slot of the priority objects indexed by node id
+	int[] bucketOf;
+	int[] slotOf;
+	
+	long last = 0L;
+	int heapSize = 0;
+	
+	public RadixHeapPriorityQueue(int capacity) {
+		for (int i = 0; i < BUCKETS; ++i) {
+			buckets[i] = new PriorityObject[16];
+		}
+		bucketOf = new int[capacity];
+		slotOf = new int[capacity];
+		for (int i = 0; i < capacity; ++i) {
+			bucketOf[i] = -1;
+		}
+	}
+
+	@Override
+	public void add(PriorityObject item) {
+		put(item, key(item.priority));
+		++heapSize;
+	}
+
+	@Override
+	public void decreasePriority(PriorityObject item, double priority) {
+		long key = key(priority);
+		remove(item);
+		item.priority = priority;
+		put(item, key);
+	}
+
+	@Override
+	public void insertOrDecrease(PriorityObject item, double priority) {
+		if (bucketOf[item.node] == -1) {
+			item.priority = priority;
+			add(item);
+		} else {
+			decreasePriority(item, priority);
+		}
+	}
+
+	@Override
+	public PriorityObject extractMin() {
+		if (heapSize == 0) {
+			return null;
+		}
+		if (bucketSizes[0] == 0) {
+			// find the first non-empty bucket and its minimum
+			int i = 1;
+			while (bucketSizes[i] == 0) {
+				++i;
+			}
+			PriorityObject[] bucket = buckets[i];
+			int size = bucketSizes[i];
+			long min = key(bucket[0].priority);
+			for (int j = 1; j < size; ++j) {
+				long key = key(bucket[j].priority);
+				if (key < min) {
+					min = key;
+				}
+			}
+			
+			// every item of the bucket moves to a lower bucket relative to the new minimum
+			last = min;
+			bucketSizes[i] = 0;
+			for (int j = 0; j < size; ++j) {
+				PriorityObject item = bucket[j];
+				bucket[j] = null;
+				put(item, key(item.priority));
+			}
+		}
+		
+		int slot = --bucketSizes[0];
+		PriorityObject min = buckets[0][slot];
+		buckets[0][slot] = null;
+		bucketOf[min.node] = -1;
+		--heapSize;
+		return min;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < BUCKETS; ++i) {
+			for (int j = 0; j < bucketSizes[i]; ++j) {
+				bucketOf[buckets[i][j].node] = -1;
+				buckets[i][j] = null;
+			}
+			bucketSizes[i] = 0;
+		}
+		last = 0L;
+		heapSize = 0;
+	}
+
+	@Override
+	public int size() {
+		return heapSize;
+	}
+	
+	private long key(double priority) {
+		// adding 0.0 turns -0.0 into 0.0
+		long key = Double.doubleToLongBits(priority + 0.0);
+		if (key < last) {
+			throw new IllegalArgumentException("Priority is smaller than the last extracted minimum: " + priority);
+		}
+		return key;
+	}
+	
+	private void put(PriorityObject item, long key) {
+		int bucket = key == last ? 0 : BUCKETS - Long.numberOfLeadingZeros(key ^ last);
+		int slot = bucketSizes[bucket];
+		if (slot == buckets[bucket].length) {
+			PriorityObject[] grown = new PriorityObject[slot * 2];
+			System.arraycopy(buckets[bucket], 0, grown, 0, slot);
+			buckets[bucket] = grown;
+		}
+		buckets[bucket][slot] = item;
+		bucketSizes[bucket] = slot + 1;
+		bucketOf[item.node] = bucket;
+		slotOf[item.node] = slot;
+	}
+	
+	private void remove(PriorityObject item) {
+		int bucket = bucketOf[item.node];
+		int slot = slotOf[item.node];
+		int lastSlot = --bucketSizes[bucket];
+		PriorityObject moved = buckets[bucket][lastSlot];
+		buckets[bucket][slot] = moved;
+		slotOf[moved.node] = slot;
+		buckets[bucket][lastSlot] = null;
+		bucketOf[item.node] = -1;
+	}
+
+}
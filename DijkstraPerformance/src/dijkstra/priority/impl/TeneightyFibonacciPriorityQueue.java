@@ -4,6 +4,7 @@ import org.teneighty.heap.FibonacciHeap;
 import org.teneighty.heap.Heap.Entry;
 
 import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueues;
 
 public class TeneightyFibonacciPriorityQueue implements dijkstra.priority.PriorityQueue<PriorityObject> {
 
@@ -21,6 +22,11 @@ public class TeneightyFibonacciPriorityQueue implements dijkstra.priority.Priori
 		heap.decreaseKey(((TeneightyDijkstraPriorityObject)item).entry, priority);
 	}
 
+	@Override
+	public void insertOrDecrease(PriorityObject item, double priority) {
+		PriorityQueues.insertOrDecrease(this, item, priority);
+	}
+
 	@Override
 	public PriorityObject extractMin() {
 		return heap.extractMinimum().getValue();
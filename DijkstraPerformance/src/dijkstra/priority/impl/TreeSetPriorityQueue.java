@@ -3,6 +3,7 @@ package dijkstra.priority.impl;
 import java.util.TreeSet;
 
 import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueues;
 
 public class TreeSetPriorityQueue implements dijkstra.priority.PriorityQueue<PriorityObject> {
 	
@@ -20,6 +21,11 @@ public class TreeSetPriorityQueue implements dijkstra.priority.PriorityQueue<Pri
 		tree.add(item);
 	}
 
+	@Override
+	public void insertOrDecrease(PriorityObject item, double priority) {
+		PriorityQueues.insertOrDecrease(this, item, priority);
+	}
+
 	@Override
 	public PriorityObject extractMin() {
 		return tree.pollFirst();
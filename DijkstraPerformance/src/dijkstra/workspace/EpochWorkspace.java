@@ -0,0 +1,60 @@
+package dijkstra.workspace;
+
+import java.util.Arrays;
+
+public class EpochWorkspace {
+	
+	// an entry only counts if its stamp is the current epoch, older ones read as Double.MAX_VALUE / -1
+	int[] stamps;
+	int epoch;
+	
+	// raw arrays, the entries of the nodes on a path found in this epoch are all current
+	public double[] distance;
+	public int[] previous;
+	
+	public EpochWorkspace(int size) {
+		stamps = new int[size];
+		epoch = 1;
+		distance = new double[size];
+		previous = new int[size];
+	}
+	
+	// forgets every entry in O(1), the stamps are only cleared when the counter wraps around
+	public void nextQuery() {
+		if (epoch == Integer.MAX_VALUE) {
+			Arrays.fill(stamps, 0);
+			epoch = 0;
+		}
+		++epoch;
+	}
+	
+	public boolean reached(int node) {
+		return stamps[node] == epoch;
+	}
+	
+	public double distance(int node) {
+		return stamps[node] == epoch ? distance[node] : Double.MAX_VALUE;
+	}
+	
+	public int previous(int node) {
+		return stamps[node] == epoch ? previous[node] : -1;
+	}
+	
+	public void set(int node, double distance, int previous) {
+		stamps[node] = epoch;
+		this.distance[node] = distance;
+		this.previous[node] = previous;
+	}
+	
+	// the full previous array of the current query, for callers that want the usual O(n) form
+	public void copyPrevious(int[] previous) {
+		for (int i = 0; i < previous.length; ++i) {
+			previous[i] = previous(i);
+		}
+	}
+	
+	public int size() {
+		return stamps.length;
+	}
+	
+}
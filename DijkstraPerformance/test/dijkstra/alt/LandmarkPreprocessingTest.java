@@ -0,0 +1,149 @@
+package dijkstra.alt;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import dijkstra.astar.AStar;
+import dijkstra.base.BaseDijkstra;
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+import dijkstra.path.Route;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.impl.PairingHeapDijkstraPriorityObject;
+import dijkstra.priority.impl.PairingHeapPriorityQueue;
+
+public class LandmarkPreprocessingTest {
+	
+	@Test
+	public void test() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(150, 0.05, new Random(42));
+		
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		LandmarkHeuristic farthest = LandmarkPreprocessing.preprocess(generator.neighbours, generator.weights, 4, LandmarkSelection.FARTHEST, new Random(1), executor);
+		LandmarkHeuristic avoid = LandmarkPreprocessing.preprocess(generator.neighbours, generator.weights, 4, LandmarkSelection.AVOID, new Random(1), executor);
+		executor.shutdown();
+		
+		assertEquals(2L * 8L * 150L, farthest.bytesPerLandmark());
+		
+		double[] expectedDistance = new double[150];
+		int[] expectedPrevious = new int[150];
+		double[] distance = new double[150];
+		int[] previous = new int[150];
+		PriorityObject[] array = new PriorityObject[150];
+		for (int i = 0; i < 150; ++i) {
+			array[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		
+		for (LandmarkHeuristic heuristic : new LandmarkHeuristic[] { farthest, avoid }) {
+			
+			// the landmarks are distinct and the distance arrays are exact
+			for (int l = 0; l < 4; ++l) {
+				for (int k = 0; k < l; ++k) {
+					assertNotEquals(heuristic.landmarks[k], heuristic.landmarks[l]);
+				}
+				BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, heuristic.landmarks[l], expectedDistance, expectedPrevious);
+				assertArrayEquals(expectedDistance, heuristic.fromLandmark[l], 0.0);
+			}
+			
+			for (int origin = 0; origin < 150; origin += 11) {
+				BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, expectedDistance, expectedPrevious);
+				for (int target = 0; target < 150; target += 13) {
+					assertTrue(heuristic.estimate(origin, target) <= expectedDistance[target] + 1e-9);
+					Route route = AStar.pointToPoint(generator.neighbours, generator.weights, heuristic, origin, target, distance, previous, array, priorityQueue);
+					assertEquals(expectedDistance[target], route.distance, 0.0);
+				}
+			}
+		}
+	}
+	
+	// with landmarks that cannot reach every node, or are not reached from every node,
+	// the bound has to stay consistent and unreachable targets give no route
+	@Test
+	public void notStronglyConnectedTest() {
+		int[][] neighbours = new int[][] {
+			new int[] { 2, 1 },
+			new int[] { 2, 3 },
+			null,
+			null
+		};
+		
+		double[][] weights = new double[][] {
+			new double[] { 10.0, 1.0 },
+			new double[] { 1.0, 1.0 },
+			null,
+			null
+		};
+		
+		double[] distance = new double[4];
+		int[] previous = new int[4];
+		PriorityObject[] array = new PriorityObject[4];
+		for (int i = 0; i < 4; ++i) {
+			array[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		
+		// landmark 3 is reached from 0 and 1 but not from 2
+		LandmarkHeuristic heuristic = new LandmarkHeuristic(new int[] { 3 },
+				new double[][] { new double[] { Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, 0.0 } },
+				new double[][] { new double[] { 2.0, 1.0, Double.MAX_VALUE, 0.0 } });
+		assertEquals(Double.MAX_VALUE, heuristic.estimate(2, 3), 0.0);
+		Route route = AStar.pointToPoint(neighbours, weights, heuristic, 0, 3, distance, previous, array, priorityQueue);
+		assertEquals(2.0, route.distance, 0.0);
+		assertNull(AStar.pointToPoint(neighbours, weights, heuristic, 2, 3, distance, previous, array, priorityQueue));
+		
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		Random random = new Random(42);
+		double[] expectedDistance = new double[60];
+		int[] expectedPrevious = new int[60];
+		distance = new double[60];
+		previous = new int[60];
+		array = new PriorityObject[60];
+		for (int i = 0; i < 60; ++i) {
+			array[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		
+		for (int graph = 0; graph < 30; ++graph) {
+			
+			// sparse random arcs, so most of these graphs are not strongly connected
+			neighbours = new int[60][];
+			weights = new double[60][];
+			for (int u = 0; u < 60; ++u) {
+				int degree = random.nextInt(3);
+				neighbours[u] = new int[degree];
+				weights[u] = new double[degree];
+				for (int i = 0; i < degree; ++i) {
+					neighbours[u][i] = random.nextInt(60);
+					weights[u][i] = random.nextDouble();
+				}
+			}
+			
+			heuristic = LandmarkPreprocessing.preprocess(neighbours, weights, 4, LandmarkSelection.AVOID, random, executor);
+			for (int origin = 0; origin < 60; origin += 3) {
+				BaseDijkstra.createPreviousArray(neighbours, weights, origin, expectedDistance, expectedPrevious);
+				for (int target = 0; target < 60; ++target) {
+					route = AStar.pointToPoint(neighbours, weights, heuristic, origin, target, distance, previous, array, priorityQueue);
+					if (expectedDistance[target] == Double.MAX_VALUE) {
+						assertNull(route);
+					} else {
+						assertEquals(expectedDistance[target], route.distance, 1e-9);
+					}
+				}
+			}
+		}
+		executor.shutdown();
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void landmarkCountTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(10, 0.2, new Random(42));
+		LandmarkPreprocessing.preprocess(generator.neighbours, generator.weights, 11, LandmarkSelection.FARTHEST, new Random(1), null);
+	}
+	
+}
@@ -0,0 +1,61 @@
+package dijkstra.astar;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+import dijkstra.path.Route;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.impl.PairingHeapDijkstraPriorityObject;
+import dijkstra.priority.impl.PairingHeapPriorityQueue;
+
+public class AStarTest {
+	
+	@Test
+	public void geometricGraphTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGeometricGraph(200, 0.05, new Random(42));
+		EuclideanHeuristic heuristic = new EuclideanHeuristic(generator.x, generator.y);
+		
+		// the estimate never exceeds the weight of an arc
+		for (int u = 0; u < 200; ++u) {
+			for (int i = 0; i < generator.neighbours[u].length; ++i) {
+				assertTrue(heuristic.estimate(u, generator.neighbours[u][i]) <= generator.weights[u][i]);
+			}
+		}
+		
+		int[] expectedPrevious = new int[200];
+		double[] expectedDistance = new double[200];
+		double[] distance = new double[200];
+		int[] previous = new int[200];
+		
+		PriorityObject[] array = new PriorityObject[200];
+		for (int i = 0; i < 200; ++i) {
+			array[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		
+		long settledAStar = 0;
+		long settledDijkstra = 0;
+		for (int origin = 0; origin < 200; origin += 13) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, expectedDistance, expectedPrevious);
+			for (int target = 0; target < 200; target += 17) {
+				Route route = AStar.pointToPoint(generator.neighbours, generator.weights, heuristic, origin, target, distance, previous, array, priorityQueue);
+				assertTrue(route != null);
+				assertEquals(expectedDistance[target], route.distance, 0.0);
+				if (target != origin) {
+					assertArrayEquals(BaseDijkstra.shortestPath(expectedPrevious, target), route.path);
+				}
+				settledAStar += route.settledNodes;
+				settledDijkstra += PriorityQueueDijkstra.pointToPoint(generator.neighbours, generator.weights, origin, target, previous, array, priorityQueue).settledNodes;
+			}
+		}
+		assertTrue(settledAStar <= settledDijkstra);
+	}
+	
+}
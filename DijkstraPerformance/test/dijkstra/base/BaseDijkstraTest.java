@@ -2,8 +2,14 @@ package dijkstra.base;
 
 import static org.junit.Assert.*;
 
+import java.util.Random;
+
 import org.junit.Test;
 
+import dijkstra.graph.CompressedSparseRowGraph;
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+import dijkstra.path.Route;
+
 public class BaseDijkstraTest {
 
 	@Test
@@ -36,4 +42,60 @@ public class BaseDijkstraTest {
 		assertEquals(3, path[2]);
 	}
 
+	@Test
+	public void compressedSparseRowTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(100, 0.1, new Random(42));
+		CompressedSparseRowGraph graph = CompressedSparseRowGraph.fromNeighbourArrays(generator.neighbours, generator.weights);
+		
+		int[] expectedPrevious = new int[100];
+		double[] expectedDistance = new double[100];
+		int[] previous = new int[100];
+		double[] distance = new double[100];
+		
+		for (int origin = 0; origin < 100; origin += 7) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, expectedDistance, expectedPrevious);
+			BaseDijkstra.createPreviousArray(graph, origin, distance, previous);
+			assertArrayEquals(expectedPrevious, previous);
+			assertArrayEquals(expectedDistance, distance, 0.0);
+		}
+	}
+	
+	@Test
+	public void pointToPointTest() {
+		
+		int[][] neighbours = new int[][] {
+			new int[] { 1, 2 },
+			new int[] { 3 },
+			new int[] { 3},
+			null,
+			new int[] { 0 }
+		};
+		
+		double[][] weights = new double[][] {
+			new double[] { 1, 100},
+			new double[] { 10 },
+			new double[] { 10 },
+			null,
+			new double[] { 1 }
+		};
+		
+		int[] previous = new int[5];
+		double[] distance = new double[5];
+		
+		Route route = BaseDijkstra.pointToPoint(neighbours, weights, 0, 3, distance, previous);
+		
+		assertTrue(route != null);
+		assertEquals(11.0, route.distance, 0.0);
+		assertArrayEquals(new int[] { 0, 1, 3 }, route.path);
+		// node 2 is never settled, it is farther than the target
+		assertEquals(3, route.settledNodes);
+		
+		route = BaseDijkstra.pointToPoint(neighbours, weights, 0, 0, distance, previous);
+		assertArrayEquals(new int[] { 0 }, route.path);
+		assertEquals(0.0, route.distance, 0.0);
+		
+		assertTrue(BaseDijkstra.pointToPoint(neighbours, weights, 0, 4, distance, previous) == null);
+	}
+	
 }
@@ -0,0 +1,55 @@
+package dijkstra.batch;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+import dijkstra.performance.scenario.PriorityQueueFactories;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.impl.PairingHeapDijkstraPriorityObject;
+import dijkstra.priority.impl.PairingHeapPriorityQueue;
+
+public class BatchShortestPathsTest {
+	
+	@Test
+	public void test() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(300, 0.05, new Random(42));
+		
+		int[] origins = new int[] { 0, 7, 7, 299, 150, 42, 3, 8, 9, 10, 11 };
+		
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		BatchShortestPaths batch = new BatchShortestPaths(generator.neighbours, generator.weights, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS, executor, 3);
+		int[][] previousArrays = batch.createPreviousArrays(origins);
+		
+		int[] expectedPrevious = new int[300];
+		PriorityObject[] array = new PriorityObject[300];
+		for (int i = 0; i < 300; ++i) {
+			array[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		for (int i = 0; i < origins.length; ++i) {
+			PriorityQueueDijkstra.createPreviousArray(generator.neighbours, generator.weights, origins[i], expectedPrevious, array, new PairingHeapPriorityQueue());
+			assertArrayEquals(expectedPrevious, previousArrays[i]);
+		}
+		
+		// the workspaces are reused by the next batch
+		final AtomicInteger calls = new AtomicInteger();
+		batch.run(origins, new ShortestPathCallback() {
+			@Override
+			public void shortestPaths(int index, int origin, int[] previous, PriorityObject[] priorityObjectArray) {
+				assertEquals(0.0, priorityObjectArray[origin].priority, 0.0);
+				calls.incrementAndGet();
+			}
+		});
+		assertEquals(origins.length, calls.get());
+		executor.shutdown();
+	}
+	
+}
@@ -0,0 +1,95 @@
+package dijkstra.bidirectional;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+import dijkstra.graph.ReverseNeighbourArrayGraph;
+import dijkstra.path.Route;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.impl.PairingHeapDijkstraPriorityObject;
+import dijkstra.priority.impl.PairingHeapPriorityQueue;
+import dijkstra.priority.impl.TeneightyDijkstraPriorityObject;
+import dijkstra.priority.impl.TeneightyFibonacciPriorityQueue;
+
+public class BidirectionalDijkstraTest {
+	
+	@Test
+	public void test() {
+		int[][] neighbours = new int[][] {
+			new int[] { 1, 2 },
+			new int[] { 3 },
+			new int[] { 3 },
+			null,
+			new int[] { 0 }
+		};
+		
+		double[][] weights = new double[][] {
+			new double[] { 1.0, 2.0 },
+			new double[] { 5.0 },
+			new double[] { 1.0 },
+			null,
+			new double[] { 1.0 }
+		};
+		
+		ReverseNeighbourArrayGraph reverse = new ReverseNeighbourArrayGraph(neighbours, weights);
+		assertArrayEquals(new int[] { 4 }, reverse.neighbours[0]);
+		assertArrayEquals(new int[] { 1, 2 }, reverse.neighbours[3]);
+		assertEquals(0, reverse.neighbours[4].length);
+		
+		PriorityObject[] forward = new PriorityObject[5];
+		PriorityObject[] backward = new PriorityObject[5];
+		for (int i = 0; i < 5; ++i) {
+			forward[i] = new TeneightyDijkstraPriorityObject(i, 0.0);
+			backward[i] = new TeneightyDijkstraPriorityObject(i, 0.0);
+		}
+		
+		Route route = BidirectionalDijkstra.pointToPoint(neighbours, weights, reverse, 4, 3, new int[5], new int[5], forward, backward, new TeneightyFibonacciPriorityQueue(), new TeneightyFibonacciPriorityQueue());
+		assertEquals(4.0, route.distance, 0.0);
+		assertArrayEquals(new int[] { 4, 0, 2, 3 }, route.path);
+		
+		route = BidirectionalDijkstra.pointToPoint(neighbours, weights, reverse, 2, 2, new int[5], new int[5], forward, backward, new TeneightyFibonacciPriorityQueue(), new TeneightyFibonacciPriorityQueue());
+		assertEquals(0.0, route.distance, 0.0);
+		assertArrayEquals(new int[] { 2 }, route.path);
+		
+		route = BidirectionalDijkstra.pointToPoint(neighbours, weights, reverse, 3, 0, new int[5], new int[5], forward, backward, new TeneightyFibonacciPriorityQueue(), new TeneightyFibonacciPriorityQueue());
+		assertNull(route);
+	}
+	
+	@Test
+	public void randomGraphTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(100, 0.1, new Random(42));
+		ReverseNeighbourArrayGraph reverse = new ReverseNeighbourArrayGraph(generator.neighbours, generator.weights);
+		
+		int[] expectedPrevious = new int[100];
+		double[] expectedDistance = new double[100];
+		
+		PriorityObject[] forward = new PriorityObject[100];
+		PriorityObject[] backward = new PriorityObject[100];
+		for (int i = 0; i < 100; ++i) {
+			forward[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+			backward[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		PairingHeapPriorityQueue forwardQueue = new PairingHeapPriorityQueue();
+		PairingHeapPriorityQueue backwardQueue = new PairingHeapPriorityQueue();
+		
+		for (int origin = 0; origin < 100; origin += 7) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, expectedDistance, expectedPrevious);
+			for (int target = 0; target < 100; target += 11) {
+				Route route = BidirectionalDijkstra.pointToPoint(generator.neighbours, generator.weights, reverse, origin, target, new int[100], new int[100], forward, backward, forwardQueue, backwardQueue);
+				assertTrue(route != null);
+				assertEquals(expectedDistance[target], route.distance, 1e-9);
+				assertTrue(route.settledNodes <= 200);
+				if (target != origin) {
+					assertArrayEquals(BaseDijkstra.shortestPath(expectedPrevious, target), route.path);
+				}
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,80 @@
+package dijkstra.bucket;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class DialBucketQueueTest {
+	
+	@Test
+	public void extractTest() {
+		
+		DialBucketQueue queue = new DialBucketQueue(3, 20);
+		queue.insert(2, 12);
+		queue.insert(1, 20);
+		queue.insert(0, 18);
+		
+		int min = queue.extractMin();
+		assertEquals(2, min);
+		assertEquals(2, queue.size());
+		
+		min = queue.extractMin();
+		assertEquals(0, min);
+		assertEquals(1, queue.size());
+		
+		min = queue.extractMin();
+		assertEquals(1, min);
+		assertEquals(0, queue.size());
+
+		min = queue.extractMin();
+		assertEquals(-1, min);
+	}
+	
+	@Test
+	public void decreaseTest() {
+		
+		DialBucketQueue queue = new DialBucketQueue(3, 20);
+		queue.insert(2, 12);
+		queue.insert(1, 20);
+		queue.insert(0, 18);
+		
+		queue.decreaseKey(1, 5);
+		assertEquals(3, queue.size());
+		assertEquals(5, queue.key(1));
+		
+		int min = queue.extractMin();
+		assertEquals(1, min);
+		assertEquals(2, queue.size());
+		
+		min = queue.extractMin();
+		assertEquals(2, min);
+		assertEquals(1, queue.size());
+		
+		min = queue.extractMin();
+		assertEquals(0, min);
+		assertEquals(0, queue.size());
+
+		min = queue.extractMin();
+		assertEquals(-1, min);
+	}
+	
+	@Test
+	public void wrapAroundTest() {
+		
+		DialBucketQueue queue = new DialBucketQueue(3, 4);
+		queue.insert(0, 3);
+		assertEquals(0, queue.extractMin());
+		
+		// 7 and 5 are in the buckets 2 and 0 after the cursor moved to 3
+		queue.insertOrDecrease(1, 7);
+		queue.insertOrDecrease(2, 5);
+		assertEquals(2, queue.extractMin());
+		assertEquals(1, queue.extractMin());
+		
+		queue.insert(0, 9);
+		queue.clear();
+		assertEquals(0, queue.size());
+		queue.insert(0, 1);
+		assertEquals(0, queue.extractMin());
+	}
+}
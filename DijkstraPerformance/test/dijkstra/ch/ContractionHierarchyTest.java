@@ -0,0 +1,83 @@
+package dijkstra.ch;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+import dijkstra.path.Route;
+import dijkstra.performance.scenario.PriorityQueueFactories;
+
+public class ContractionHierarchyTest {
+	
+	@Test
+	public void test() {
+		int[][] neighbours = new int[][] {
+			new int[] { 1 },
+			new int[] { 2 },
+			new int[] { 3 },
+			null
+		};
+		
+		double[][] weights = new double[][] {
+			new double[] { 1.0 },
+			new double[] { 2.0 },
+			new double[] { 3.0 },
+			null
+		};
+		
+		ContractionHierarchy hierarchy = ContractionHierarchyBuilder.build(neighbours, weights, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS);
+		ContractionHierarchyQuery query = new ContractionHierarchyQuery(hierarchy, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS);
+		
+		Route route = query.pointToPoint(0, 3);
+		assertEquals(6.0, route.distance, 0.0);
+		assertArrayEquals(new int[] { 0, 1, 2, 3 }, route.path);
+		assertNull(query.pointToPoint(3, 0));
+		assertArrayEquals(new int[] { 2 }, query.pointToPoint(2, 2).path);
+	}
+	
+	@Test
+	public void randomGraphTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(150, 0.05, new Random(42));
+		
+		ContractionHierarchy hierarchy = ContractionHierarchyBuilder.build(generator.neighbours, generator.weights, PriorityQueueFactories.TENEIGHTY, PriorityQueueFactories.TENEIGHTY_OBJECTS);
+		ContractionHierarchyQuery query = new ContractionHierarchyQuery(hierarchy, PriorityQueueFactories.PAIRING_HEAP, PriorityQueueFactories.PAIRING_HEAP_OBJECTS);
+		
+		double[] expectedDistance = new double[150];
+		int[] expectedPrevious = new int[150];
+		for (int origin = 0; origin < 150; origin += 7) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, expectedDistance, expectedPrevious);
+			for (int target = 0; target < 150; target += 5) {
+				Route route = query.pointToPoint(origin, target);
+				assertEquals(expectedDistance[target], route.distance, 1e-9);
+				if (target != origin) {
+					assertArrayEquals(BaseDijkstra.shortestPath(expectedPrevious, target), route.path);
+				}
+			}
+		}
+	}
+	
+	// edge differences are negative at first, the node order must not depend on a monotone queue
+	@Test
+	public void radixHeapTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(300, 0.02, new Random(42));
+		
+		ContractionHierarchy hierarchy = ContractionHierarchyBuilder.build(generator.neighbours, generator.weights, PriorityQueueFactories.RADIX_HEAP, PriorityQueueFactories.PRIORITY_OBJECTS);
+		ContractionHierarchyQuery query = new ContractionHierarchyQuery(hierarchy, PriorityQueueFactories.RADIX_HEAP, PriorityQueueFactories.PRIORITY_OBJECTS);
+		
+		double[] expectedDistance = new double[300];
+		int[] expectedPrevious = new int[300];
+		for (int origin = 0; origin < 300; origin += 17) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, expectedDistance, expectedPrevious);
+			for (int target = 0; target < 300; target += 7) {
+				assertEquals(expectedDistance[target], query.pointToPoint(origin, target).distance, 1e-9);
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,63 @@
+package dijkstra.delta;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.impl.PairingHeapDijkstraPriorityObject;
+import dijkstra.priority.impl.PairingHeapPriorityQueue;
+
+public class DeltaSteppingTest {
+	
+	@Test
+	public void test() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(1000, 0.02, new Random(42));
+		
+		int[] expectedPrevious = new int[1000];
+		PriorityObject[] array = new PriorityObject[1000];
+		for (int i = 0; i < 1000; ++i) {
+			array[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		
+		double[] distance = new double[1000];
+		int[] previous = new int[1000];
+		
+		ForkJoinPool pool = new ForkJoinPool(4);
+		DeltaStepping engine = new DeltaStepping(generator.neighbours, generator.weights, pool);
+		double delta = DeltaStepping.selectDelta(generator.neighbours, generator.weights);
+		assertTrue(delta > 0.0);
+		
+		for (int origin = 0; origin < 1000; origin += 97) {
+			PriorityQueueDijkstra.createPreviousArrayLazy(generator.neighbours, generator.weights, origin, expectedPrevious, array, priorityQueue);
+			
+			engine.createPreviousArray(origin, distance, previous);
+			assertArrayEquals(expectedPrevious, previous);
+			for (int v = 0; v < 1000; ++v) {
+				assertEquals(array[v].priority, distance[v], 0.0);
+			}
+			
+			// one bucket and very narrow buckets both end up with the same tree
+			engine.createPreviousArray(origin, distance, previous, 1000.0);
+			assertArrayEquals(expectedPrevious, previous);
+			engine.createPreviousArray(origin, distance, previous, delta / 10.0);
+			assertArrayEquals(expectedPrevious, previous);
+		}
+		pool.shutdown();
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void deltaTest() {
+		int[][] neighbours = new int[][] { new int[] { 1 }, null };
+		double[][] weights = new double[][] { new double[] { 1.0 }, null };
+		new DeltaStepping(neighbours, weights, new ForkJoinPool(1)).createPreviousArray(0, new double[2], new int[2], 0.0);
+	}
+	
+}
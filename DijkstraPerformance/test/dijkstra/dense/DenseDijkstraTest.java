@@ -0,0 +1,97 @@
+package dijkstra.dense;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.graph.AdjacencyMatrixGraph;
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+
+public class DenseDijkstraTest {
+	
+	@Test
+	public void test() {
+		int[][] neighbours = new int[][] {
+			new int[] { 1, 2 },
+			new int[] { 3 },
+			new int[] { 3 },
+			null,
+			null
+		};
+		
+		double[][] weights = new double[][] {
+			new double[] { 1.0, 2.0 },
+			new double[] { 5.0 },
+			new double[] { 1.0 },
+			null,
+			null
+		};
+		
+		double[] distance = new double[5];
+		int[] previous = new int[5];
+		boolean[] settled = new boolean[5];
+		
+		DenseDijkstra.createPreviousArray(neighbours, weights, 0, distance, previous, settled);
+		assertArrayEquals(new int[] { -1, 0, 0, 2, -1 }, previous);
+		assertArrayEquals(new double[] { 0.0, 1.0, 2.0, 3.0, Double.MAX_VALUE }, distance, 0.0);
+		
+		DenseDijkstra.createPreviousArray(AdjacencyMatrixGraph.fromNeighbourArrays(neighbours, weights), 0, distance, previous, settled);
+		assertArrayEquals(new int[] { -1, 0, 0, 2, -1 }, previous);
+		assertArrayEquals(new double[] { 0.0, 1.0, 2.0, 3.0, Double.MAX_VALUE }, distance, 0.0);
+	}
+	
+	@Test
+	public void randomGraphTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(200, 0.5, new Random(42));
+		AdjacencyMatrixGraph matrix = AdjacencyMatrixGraph.fromNeighbourArrays(generator.neighbours, generator.weights);
+		
+		double[] expectedDistance = new double[200];
+		int[] expectedPrevious = new int[200];
+		double[] distance = new double[200];
+		int[] previous = new int[200];
+		boolean[] settled = new boolean[200];
+		
+		for (int origin = 0; origin < 200; origin += 19) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, expectedDistance, expectedPrevious);
+			
+			DenseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, distance, previous, settled);
+			assertArrayEquals(expectedPrevious, previous);
+			assertArrayEquals(expectedDistance, distance, 0.0);
+			
+			DenseDijkstra.createPreviousArray(matrix, origin, distance, previous, settled);
+			assertArrayEquals(expectedPrevious, previous);
+			assertArrayEquals(expectedDistance, distance, 0.0);
+		}
+	}
+	
+	@Test
+	public void parallelArcTest() {
+		int[][] neighbours = new int[][] {
+			new int[] { 1, 1, 1 },
+			null
+		};
+		
+		double[][] weights = new double[][] {
+			new double[] { 3.0, 1.0, 2.0 },
+			null
+		};
+		
+		AdjacencyMatrixGraph graph = AdjacencyMatrixGraph.fromNeighbourArrays(neighbours, weights);
+		assertEquals(1.0, graph.matrix[1], 0.0);
+		
+		double[] distance = new double[2];
+		int[] previous = new int[2];
+		DenseDijkstra.createPreviousArray(graph, 0, distance, previous, new boolean[2]);
+		assertEquals(1.0, distance[1], 0.0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void matrixSizeTest() {
+		new AdjacencyMatrixGraph(new double[5], 2);
+	}
+	
+}
@@ -0,0 +1,33 @@
+package dijkstra.graph;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class CompressedSparseRowGraphTest {
+	
+	@Test
+	public void test() {
+		int[][] neighbours = new int[][] {
+			new int[] { 1, 2 },
+			new int[] { 3 },
+			null,
+			new int[] { 0 }
+		};
+		
+		double[][] weights = new double[][] {
+			new double[] { 1, 100},
+			new double[] { 10 },
+			null,
+			new double[] { 5 }
+		};
+		
+		CompressedSparseRowGraph graph = CompressedSparseRowGraph.fromNeighbourArrays(neighbours, weights);
+		
+		assertEquals(4, graph.size());
+		assertEquals(4, graph.arcs());
+		assertArrayEquals(new int[] { 0, 2, 3, 3, 4 }, graph.offsets);
+		assertArrayEquals(new int[] { 1, 2, 3, 0 }, graph.targets);
+		assertArrayEquals(new double[] { 1, 100, 10, 5 }, graph.weights, 0.0);
+	}
+}
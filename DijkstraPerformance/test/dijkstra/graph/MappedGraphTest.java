@@ -0,0 +1,97 @@
+package dijkstra.graph;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.impl.PairingHeapDijkstraPriorityObject;
+import dijkstra.priority.impl.PairingHeapPriorityQueue;
+
+public class MappedGraphTest {
+	
+	@Test
+	public void test() throws IOException {
+		int[][] neighbours = new int[][] {
+			new int[] { 1, 2 },
+			new int[] { 3 },
+			null,
+			new int[] { 0 },
+			null
+		};
+		
+		double[][] weights = new double[][] {
+			new double[] { 1, 100},
+			new double[] { 10 },
+			null,
+			new double[] { 5 },
+			null
+		};
+		
+		File file = File.createTempFile("dijkstra", ".graph");
+		file.deleteOnExit();
+		MappedGraph.write(neighbours, weights, file);
+		
+		// header, 6 offsets, 4 targets and 4 weights
+		assertEquals(32 + 6 * 8 + 4 * 4 + 4 * 8, file.length());
+		
+		MappedGraph graph = MappedGraph.open(file);
+		assertEquals(5, graph.size());
+		assertEquals(4, graph.arcs());
+		long[] offsets = new long[] { 0, 2, 3, 3, 4, 4 };
+		for (int i = 0; i < offsets.length; ++i) {
+			assertEquals(offsets[i], graph.offset(i));
+		}
+		int[] targets = new int[] { 1, 2, 3, 0 };
+		double[] arcWeights = new double[] { 1, 100, 10, 5 };
+		for (int i = 0; i < targets.length; ++i) {
+			assertEquals(targets[i], graph.target(i));
+			assertEquals(arcWeights[i], graph.weight(i), 0.0);
+		}
+	}
+	
+	@Test
+	public void randomGraphTest() throws IOException {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(100, 0.1, new Random(42));
+		
+		File file = File.createTempFile("dijkstra", ".graph");
+		file.deleteOnExit();
+		MappedGraph.write(generator.neighbours, generator.weights, file);
+		MappedGraph graph = MappedGraph.open(file);
+		
+		int[] expectedPrevious = new int[100];
+		double[] distance = new double[100];
+		int[] previous = new int[100];
+		
+		PriorityObject[] array = new PriorityObject[100];
+		for (int i = 0; i < 100; ++i) {
+			array[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		
+		for (int origin = 0; origin < 100; origin += 7) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, distance, expectedPrevious);
+			PriorityQueueDijkstra.createPreviousArrayLazy(graph, origin, previous, array, priorityQueue);
+			assertArrayEquals(expectedPrevious, previous);
+		}
+	}
+	
+	@Test(expected = IOException.class)
+	public void openTest() throws IOException {
+		File file = File.createTempFile("dijkstra", ".graph");
+		file.deleteOnExit();
+		FileOutputStream output = new FileOutputStream(file);
+		output.write(new byte[40]);
+		output.close();
+		MappedGraph.open(file);
+	}
+	
+}
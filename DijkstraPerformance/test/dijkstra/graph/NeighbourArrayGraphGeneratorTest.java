@@ -56,4 +56,21 @@ public class NeighbourArrayGraphGeneratorTest {
 		
 	}
 	
+	@Test
+	public void integerWeightTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(10, 0.5, 5, new Random(42));
+		
+		for (int i = 0; i < generator.weights.length; ++i) {
+			if (generator.weights[i] == null) {
+				continue;
+			}
+			for (int j = 0; j < generator.weights[i].length; ++j) {
+				double weight = generator.weights[i][j];
+				assertTrue(weight >= 1.0 && weight <= 5.0);
+				assertEquals(Math.rint(weight), weight, 0.0);
+			}
+		}
+	}
+	
 }
@@ -0,0 +1,82 @@
+package dijkstra.graph;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.impl.PairingHeapDijkstraPriorityObject;
+import dijkstra.priority.impl.PairingHeapPriorityQueue;
+
+public class OffHeapGraphTest {
+	
+	@Test
+	public void test() {
+		int[][] neighbours = new int[][] {
+			new int[] { 1, 2 },
+			new int[] { 3 },
+			null,
+			new int[] { 0 }
+		};
+		
+		double[][] weights = new double[][] {
+			new double[] { 1, 100},
+			new double[] { 10 },
+			null,
+			new double[] { 5 }
+		};
+		
+		OffHeapGraph graph = OffHeapGraph.fromNeighbourArrays(neighbours, weights);
+		
+		assertEquals(4, graph.size());
+		assertEquals(4, graph.arcs());
+		long[] offsets = new long[] { 0, 2, 3, 3, 4 };
+		for (int i = 0; i < offsets.length; ++i) {
+			assertEquals(offsets[i], graph.offset(i));
+		}
+		int[] targets = new int[] { 1, 2, 3, 0 };
+		double[] arcWeights = new double[] { 1, 100, 10, 5 };
+		for (int i = 0; i < targets.length; ++i) {
+			assertEquals(targets[i], graph.target(i));
+			assertEquals(arcWeights[i], graph.weight(i), 0.0);
+		}
+	}
+	
+	@Test
+	public void randomGraphTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(100, 0.1, new Random(42));
+		Graph[] graphs = new Graph[] {
+			OffHeapGraph.fromNeighbourArrays(generator.neighbours, generator.weights),
+			CompressedSparseRowGraph.fromNeighbourArrays(generator.neighbours, generator.weights)
+		};
+		
+		int[] expectedPrevious = new int[100];
+		double[] distance = new double[100];
+		int[] previous = new int[100];
+		
+		PriorityObject[] array = new PriorityObject[100];
+		for (int i = 0; i < 100; ++i) {
+			array[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		
+		for (int origin = 0; origin < 100; origin += 7) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, distance, expectedPrevious);
+			for (Graph graph : graphs) {
+				PriorityQueueDijkstra.createPreviousArrayLazy(graph, origin, previous, array, priorityQueue);
+				assertArrayEquals(expectedPrevious, previous);
+			}
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void sizeTest() {
+		new OffHeapGraph(10, Integer.MAX_VALUE);
+	}
+	
+}
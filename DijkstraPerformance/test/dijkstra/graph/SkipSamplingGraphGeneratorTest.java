@@ -0,0 +1,72 @@
+package dijkstra.graph;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.base.BaseDijkstra;
+
+public class SkipSamplingGraphGeneratorTest {
+	
+	@Test
+	public void test() {
+		SkipSamplingGraphGenerator generator = new SkipSamplingGraphGenerator();
+		generator.generateRandomGraph(10, 0, new Random(42));
+		
+		assertTrue(generator.neighbours != null);
+		assertEquals(18, countArcs(generator.neighbours));
+	}
+	
+	@Test
+	public void arcsTest() {
+		SkipSamplingGraphGenerator generator = new SkipSamplingGraphGenerator();
+		
+		generator.generateRandomGraph(20, 1.0, new Random(42));
+		assertEquals(20 * 19, countArcs(generator.neighbours));
+		
+		generator.generateRandomGraph(300, 0.3, new Random(42));
+		int arcs = countArcs(generator.neighbours);
+		assertTrue(Math.abs(arcs - 300 * 300 * 0.3) < 300 * 300 * 0.3 * 0.05);
+		
+		// no loops and no parallel arcs
+		for (int u = 0; u < generator.neighbours.length; ++u) {
+			boolean[] seen = new boolean[300];
+			for (int v : generator.neighbours[u]) {
+				assertTrue(v != u);
+				assertFalse(seen[v]);
+				seen[v] = true;
+			}
+			assertEquals(generator.neighbours[u].length, generator.weights[u].length);
+		}
+	}
+	
+	@Test
+	public void testDijkstra() {
+		SkipSamplingGraphGenerator generator = new SkipSamplingGraphGenerator();
+		generator.generateRandomGraph(10, 0, new Random(42));
+		
+		int[] previous = new int[10];
+		double[] distance = new double[10];
+		
+		for (int origin = 0; origin < 10; ++origin) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, distance, previous);
+			for (int i = 0; i < 10; ++i) {
+				if (i == origin) {
+					assertEquals(-1, previous[i]);
+				} else {
+					assertTrue(previous[i] != -1);
+				}
+			}
+		}
+	}
+	
+	private int countArcs(int[][] neighbours) {
+		int arcs = 0;
+		for (int i = 0; i < neighbours.length; ++i) {
+			arcs += neighbours[i].length;
+		}
+		return arcs;
+	}
+}
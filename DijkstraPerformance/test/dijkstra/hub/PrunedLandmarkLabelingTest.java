@@ -0,0 +1,71 @@
+package dijkstra.hub;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+
+public class PrunedLandmarkLabelingTest {
+	
+	@Test
+	public void test() {
+		int[][] neighbours = new int[][] {
+			new int[] { 1, 2 },
+			new int[] { 3 },
+			new int[] { 3 },
+			null
+		};
+		
+		double[][] weights = new double[][] {
+			new double[] { 1.0, 2.0 },
+			new double[] { 5.0 },
+			new double[] { 1.0 },
+			null
+		};
+		
+		HubLabels labels = PrunedLandmarkLabeling.build(neighbours, weights);
+		assertEquals(3.0, labels.distance(0, 3), 0.0);
+		assertEquals(0.0, labels.distance(2, 2), 0.0);
+		assertEquals(Double.MAX_VALUE, labels.distance(3, 0), 0.0);
+		assertEquals(Double.MAX_VALUE, labels.distance(1, 2), 0.0);
+	}
+	
+	@Test
+	public void randomGraphTest() throws IOException {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(100, 0.3, new Random(42));
+		
+		HubLabels labels = PrunedLandmarkLabeling.build(generator.neighbours, generator.weights);
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		labels.save(new DataOutputStream(bytes));
+		HubLabels loaded = HubLabels.load(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+		assertArrayEquals(labels.outOffsets, loaded.outOffsets);
+		assertArrayEquals(labels.inHubs, loaded.inHubs);
+		
+		double[] expectedDistance = new double[100];
+		int[] expectedPrevious = new int[100];
+		for (int origin = 0; origin < 100; ++origin) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, expectedDistance, expectedPrevious);
+			for (int target = 0; target < 100; ++target) {
+				assertEquals(expectedDistance[target], labels.distance(origin, target), 1e-9);
+				assertEquals(expectedDistance[target], loaded.distance(origin, target), 1e-9);
+			}
+		}
+	}
+	
+	@Test(expected = IOException.class)
+	public void loadTest() throws IOException {
+		HubLabels.load(new DataInputStream(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 })));
+	}
+	
+}
@@ -0,0 +1,82 @@
+package dijkstra.indexed;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class IndexedBinaryHeapTest {
+	
+	@Test
+	public void extractTest() {
+		
+		IndexedBinaryHeap heap = new IndexedBinaryHeap(3);
+		heap.insert(2, 12.0);
+		heap.insert(1, 23.0);
+		heap.insert(0, 18.0);
+		
+		int min = heap.extractMin();
+		assertEquals(2, min);
+		assertEquals(2, heap.size());
+		assertFalse(heap.contains(2));
+		
+		min = heap.extractMin();
+		assertEquals(0, min);
+		assertEquals(1, heap.size());
+		
+		min = heap.extractMin();
+		assertEquals(1, min);
+		assertEquals(0, heap.size());
+
+		min = heap.extractMin();
+		assertEquals(-1, min);
+	}
+	
+	@Test
+	public void decreaseTest() {
+		
+		IndexedBinaryHeap heap = new IndexedBinaryHeap(3);
+		heap.insert(2, 12.0);
+		heap.insert(1, 23.0);
+		heap.insert(0, 18.0);
+		
+		heap.decreaseKey(1, 5.0);
+		assertEquals(3, heap.size());
+		assertEquals(5.0, heap.key(1), 0.0);
+		
+		int min = heap.extractMin();
+		assertEquals(1, min);
+		assertEquals(2, heap.size());
+		
+		min = heap.extractMin();
+		assertEquals(2, min);
+		assertEquals(1, heap.size());
+		
+		min = heap.extractMin();
+		assertEquals(0, min);
+		assertEquals(0, heap.size());
+
+		min = heap.extractMin();
+		assertEquals(-1, min);
+	}
+	
+	@Test
+	public void clearTest() {
+		
+		IndexedBinaryHeap heap = new IndexedBinaryHeap(3);
+		heap.insertOrDecrease(2, 12.0);
+		heap.insertOrDecrease(1, 23.0);
+		heap.insertOrDecrease(1, 3.0);
+		assertEquals(2, heap.size());
+		
+		heap.clear();
+		assertEquals(0, heap.size());
+		assertFalse(heap.contains(1));
+		assertFalse(heap.contains(2));
+		
+		heap.insert(1, 7.0);
+		assertTrue(heap.contains(1));
+		assertEquals(1, heap.extractMin());
+	}
+}
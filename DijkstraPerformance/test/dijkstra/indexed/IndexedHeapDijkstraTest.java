@@ -0,0 +1,62 @@
+package dijkstra.indexed;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+
+public class IndexedHeapDijkstraTest {
+	
+	@Test
+	public void test() {
+		int[][] neighbours = new int[][] {
+			new int[] { 1, 2 },
+			new int[] { 3 },
+			new int[] { 3},
+			null
+		};
+			
+		double[][] weights = new double[][] {
+			new double[] { 1, 100},
+			new double[] { 10 },
+			new double[] { 10 },
+			null
+		};
+			
+		int[] previous = new int[4];
+		double[] distance = new double[4];
+		IndexedBinaryHeap heap = new IndexedBinaryHeap(4);
+		
+		IndexedHeapDijkstra.createPreviousArray(neighbours, weights, 0, distance, previous, heap);
+		int[] path = BaseDijkstra.shortestPath(previous, 3);
+		
+		assertTrue(path != null);
+		assertEquals(3, path.length);
+		assertEquals(0, path[0]);
+		assertEquals(1, path[1]);
+		assertEquals(3, path[2]);
+		assertEquals(11.0, distance[3], 0.0);
+	}
+	
+	@Test
+	public void randomGraphTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(100, 0.1, new Random(42));
+		
+		int[] basePrevious = new int[100];
+		double[] baseDistance = new double[100];
+		int[] previous = new int[100];
+		double[] distance = new double[100];
+		IndexedBinaryHeap heap = new IndexedBinaryHeap(100);
+		
+		for (int origin = 0; origin < 100; origin += 7) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, baseDistance, basePrevious);
+			IndexedHeapDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, distance, previous, heap);
+			assertArrayEquals(basePrevious, previous);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package dijkstra.matrix;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+
+public class DistanceMatrixTest {
+	
+	@Test
+	public void test() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(200, 0.05, new Random(42));
+		
+		int[] sources = new int[] { 0, 5, 17, 17, 42, 99, 150, 199 };
+		int[] targets = new int[] { 3, 5, 5, 60, 120, 0 };
+		
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		double[][] matrix = DistanceMatrix.compute(generator.neighbours, generator.weights, sources, targets, executor, 3);
+		executor.shutdown();
+		
+		double[] distance = new double[200];
+		int[] previous = new int[200];
+		for (int i = 0; i < sources.length; ++i) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, sources[i], distance, previous);
+			for (int j = 0; j < targets.length; ++j) {
+				assertEquals(distance[targets[j]], matrix[i][j], 0.0);
+			}
+		}
+	}
+	
+	@Test
+	public void unreachableTest() {
+		int[][] neighbours = new int[][] { new int[] { 1 }, null, null };
+		double[][] weights = new double[][] { new double[] { 2.0 }, null, null };
+		
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		double[][] matrix = DistanceMatrix.compute(neighbours, weights, new int[] { 0, 2 }, new int[] { 1, 2 }, executor, 4);
+		executor.shutdown();
+		
+		assertArrayEquals(new double[] { 2.0, Double.MAX_VALUE }, matrix[0], 0.0);
+		assertArrayEquals(new double[] { Double.MAX_VALUE, 0.0 }, matrix[1], 0.0);
+	}
+	
+}
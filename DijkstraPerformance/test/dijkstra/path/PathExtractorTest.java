@@ -0,0 +1,88 @@
+package dijkstra.path;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.base.BaseDijkstra;
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+
+public class PathExtractorTest {
+	
+	@Test
+	public void test() {
+		// 0 -> 1 -> 2, 0 -> 3, 4 unreachable
+		int[] previous = new int[] { -1, 0, 1, 0, -1 };
+		
+		assertArrayEquals(new int[] { 0, 1, 2 }, PathExtractor.path(previous, 2));
+		assertNull(PathExtractor.path(previous, 4));
+		assertNull(PathExtractor.path(previous, 0));
+		
+		int[] destinations = new int[] { 2, 4, 3, 1 };
+		assertEquals(7, PathExtractor.requiredLength(previous, destinations));
+		
+		int[] buffer = new int[10];
+		int[] offsets = new int[5];
+		assertEquals(7, PathExtractor.extractPaths(previous, destinations, buffer, offsets));
+		assertArrayEquals(new int[] { 0, 3, 3, 5, 7 }, offsets);
+		assertArrayEquals(new int[] { 0, 1, 2, 0, 3, 0, 1 }, Arrays.copyOf(buffer, 7));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void bufferTest() {
+		int[] previous = new int[] { -1, 0, 1 };
+		PathExtractor.extractPaths(previous, new int[] { 2, 2 }, new int[5], new int[3]);
+	}
+	
+	@Test
+	public void treeTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(300, 0.02, new Random(42));
+		double[] distance = new double[300];
+		int[] previous = new int[300];
+		BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, 17, distance, previous);
+		
+		ShortestPathTree tree = new ShortestPathTree(300);
+		tree.build(previous);
+		
+		// every node is visited once and the path of the iterator is the extracted path
+		boolean[] visited = new boolean[300];
+		int count = 0;
+		tree.start(17);
+		while (tree.next()) {
+			int v = tree.node();
+			assertFalse(visited[v]);
+			visited[v] = true;
+			++count;
+			if (v != 17) {
+				int[] expected = PathExtractor.path(previous, v);
+				assertEquals(expected.length - 1, tree.depth());
+				for (int i = 0; i <= tree.depth(); ++i) {
+					assertEquals(expected[i], tree.path()[i]);
+				}
+			}
+		}
+		assertEquals(300, count);
+		assertFalse(tree.next());
+		
+		// a subtree only visits the nodes below its root
+		int root = 0;
+		while (previous[root] == -1 || previous[previous[root]] == -1) {
+			++root;
+		}
+		root = previous[root];
+		tree.start(root);
+		while (tree.next()) {
+			int v = tree.node();
+			int u = v;
+			while (u != root) {
+				u = previous[u];
+				assertTrue(u != -1);
+			}
+		}
+	}
+	
+}
@@ -2,8 +2,18 @@ package dijkstra.priority;
 
 import static org.junit.Assert.*;
 
+import java.util.Random;
+
 import org.junit.Test;
 
+import dijkstra.base.BaseDijkstra;
+import dijkstra.graph.CompressedSparseRowGraph;
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+import dijkstra.path.Route;
+import dijkstra.priority.impl.PairingHeapDijkstraPriorityObject;
+import dijkstra.priority.impl.PairingHeapPriorityQueue;
+import dijkstra.priority.impl.TeneightyDijkstraPriorityObject;
+import dijkstra.priority.impl.TeneightyFibonacciPriorityQueue;
 import dijkstra.priority.impl.TreeSetPriorityQueue;
 
 public class PriorityQueueDijkstraTest {
@@ -42,4 +52,100 @@ public class PriorityQueueDijkstraTest {
 		assertEquals(3, path[2]);		
 	}
 	
+	@Test
+	public void lazyTest() {
+		int[][] neighbours = new int[][] {
+			new int[] { 1, 2 },
+			new int[] { 3 },
+			new int[] { 3},
+			null,
+			new int[] { 0 }
+		};
+			
+		double[][] weights = new double[][] {
+			new double[] { 1, 100},
+			new double[] { 10 },
+			new double[] { 10 },
+			null,
+			new double[] { 1 }
+		};
+			
+		int[] previous = new int[5];
+		
+		PriorityObject[] array = new PriorityObject[5];
+		for (int i = 0; i < 5; ++i) {
+			array[i] = new TeneightyDijkstraPriorityObject(i, 1.0);
+		}
+		TeneightyFibonacciPriorityQueue priorityQueue = new TeneightyFibonacciPriorityQueue();
+		
+		PriorityQueueDijkstra.createPreviousArrayLazy(neighbours, weights, 0, previous, array, priorityQueue);
+		int[] path = PriorityQueueDijkstra.shortestPath(previous, 3);
+		
+		assertTrue(path != null);
+		assertEquals(3, path.length);
+		assertEquals(0, path[0]);
+		assertEquals(1, path[1]);
+		assertEquals(3, path[2]);
+		
+		// node 4 is not reachable from the source so it never enters the queue
+		assertEquals(-1, previous[4]);
+		assertEquals(Double.MAX_VALUE, array[4].priority, 0.0);
+	}
+	
+	@Test
+	public void compressedSparseRowTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(100, 0.1, new Random(42));
+		CompressedSparseRowGraph graph = CompressedSparseRowGraph.fromNeighbourArrays(generator.neighbours, generator.weights);
+		
+		int[] expectedPrevious = new int[100];
+		double[] distance = new double[100];
+		int[] previous = new int[100];
+		
+		PriorityObject[] array = new PriorityObject[100];
+		for (int i = 0; i < 100; ++i) {
+			array[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		
+		for (int origin = 0; origin < 100; origin += 7) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, distance, expectedPrevious);
+			PriorityQueueDijkstra.createPreviousArray(graph, origin, previous, array, priorityQueue);
+			assertArrayEquals(expectedPrevious, previous);
+			PriorityQueueDijkstra.createPreviousArrayLazy(graph, origin, previous, array, priorityQueue);
+			assertArrayEquals(expectedPrevious, previous);
+		}
+	}
+	
+	@Test
+	public void pointToPointTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(100, 0.1, new Random(42));
+		
+		int[] expectedPrevious = new int[100];
+		double[] expectedDistance = new double[100];
+		int[] previous = new int[100];
+		
+		PriorityObject[] array = new PriorityObject[100];
+		for (int i = 0; i < 100; ++i) {
+			array[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		
+		for (int origin = 0; origin < 100; origin += 7) {
+			BaseDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, expectedDistance, expectedPrevious);
+			for (int target = 0; target < 100; target += 11) {
+				Route route = PriorityQueueDijkstra.pointToPoint(generator.neighbours, generator.weights, origin, target, previous, array, priorityQueue);
+				assertTrue(route != null);
+				assertEquals(expectedDistance[target], route.distance, 0.0);
+				assertEquals(origin, route.path[0]);
+				assertEquals(target, route.path[route.path.length - 1]);
+				assertTrue(route.settledNodes <= 100);
+				if (target != origin) {
+					assertArrayEquals(BaseDijkstra.shortestPath(expectedPrevious, target), route.path);
+				}
+			}
+		}
+	}
+	
 }
@@ -0,0 +1,107 @@
+package dijkstra.priority.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.priority.PriorityObject;
+
+public class DaryHeapPriorityQueueTest {
+	
+	@Test
+	public void extractTest() {
+		
+		PriorityObject[] array = new PriorityObject[] {
+			new PriorityObject(2, 12.0),
+			new PriorityObject(1, 23.0),
+			new PriorityObject(0, 18.0)
+		};		
+		
+		DaryHeapPriorityQueue priorityQueue = new DaryHeapPriorityQueue(4, 3);
+		priorityQueue.add(array[0]);
+		priorityQueue.add(array[1]);
+		priorityQueue.add(array[2]);
+		
+		PriorityObject min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(2, min.node);
+		assertEquals(2, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(0, min.node);
+		assertEquals(1, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(1, min.node);
+		assertEquals(0, priorityQueue.size());
+
+		min = priorityQueue.extractMin();
+		assertTrue(min == null);
+	}
+	
+	@Test
+	public void decreaseTest() {
+		
+		PriorityObject[] array = new PriorityObject[] {
+			new PriorityObject(2, 12.0),
+			new PriorityObject(1, 23.0),
+			new PriorityObject(0, 18.0)
+		};		
+		
+		DaryHeapPriorityQueue priorityQueue = new DaryHeapPriorityQueue(2, 3);
+		priorityQueue.add(array[0]);
+		priorityQueue.add(array[1]);
+		priorityQueue.add(array[2]);
+		
+		priorityQueue.decreasePriority(array[1], 5.0);
+		assertEquals(3, priorityQueue.size());
+		
+		PriorityObject min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(1, min.node);
+		assertEquals(2, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(2, min.node);
+		assertEquals(1, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(0, min.node);
+		assertEquals(0, priorityQueue.size());
+
+		min = priorityQueue.extractMin();
+		assertTrue(min == null);
+	}
+	
+	@Test
+	public void orderTest() {
+		
+		int[] arities = new int[] { 2, 3, 4, 8, 16 };
+		for (int arity : arities) {
+			Random random = new Random(42);
+			PriorityObject[] array = new PriorityObject[200];
+			DaryHeapPriorityQueue priorityQueue = new DaryHeapPriorityQueue(arity, array.length);
+			for (int i = 0; i < array.length; ++i) {
+				array[i] = new PriorityObject(i, random.nextDouble());
+				priorityQueue.add(array[i]);
+			}
+			for (int i = 0; i < array.length; i += 3) {
+				priorityQueue.decreasePriority(array[i], array[i].priority / 2.0);
+			}
+			
+			double last = -1.0;
+			while (priorityQueue.size() != 0) {
+				PriorityObject min = priorityQueue.extractMin();
+				assertTrue(min.priority >= last);
+				last = min.priority;
+			}
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package dijkstra.priority.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.priority.PriorityObject;
+
+public class PairingHeapPriorityQueueTest {
+	
+	@Test
+	public void extractTest() {
+		
+		PairingHeapDijkstraPriorityObject[] array = new PairingHeapDijkstraPriorityObject[] {
+			new PairingHeapDijkstraPriorityObject(2, 12.0),
+			new PairingHeapDijkstraPriorityObject(1, 23.0),
+			new PairingHeapDijkstraPriorityObject(0, 18.0)
+		};		
+		
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		priorityQueue.add(array[0]);
+		priorityQueue.add(array[1]);
+		priorityQueue.add(array[2]);
+		
+		PriorityObject min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(2, min.node);
+		assertEquals(2, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(0, min.node);
+		assertEquals(1, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(1, min.node);
+		assertEquals(0, priorityQueue.size());
+
+		min = priorityQueue.extractMin();
+		assertTrue(min == null);
+	}
+	
+	@Test
+	public void decreaseTest() {
+		
+		PairingHeapDijkstraPriorityObject[] array = new PairingHeapDijkstraPriorityObject[] {
+			new PairingHeapDijkstraPriorityObject(2, 12.0),
+			new PairingHeapDijkstraPriorityObject(1, 23.0),
+			new PairingHeapDijkstraPriorityObject(0, 18.0)
+		};		
+		
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		priorityQueue.add(array[0]);
+		priorityQueue.add(array[1]);
+		priorityQueue.add(array[2]);
+		
+		priorityQueue.decreasePriority(array[1], 5.0);
+		assertEquals(3, priorityQueue.size());
+		
+		PriorityObject min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(1, min.node);
+		assertEquals(2, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(2, min.node);
+		assertEquals(1, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(0, min.node);
+		assertEquals(0, priorityQueue.size());
+
+		min = priorityQueue.extractMin();
+		assertTrue(min == null);
+	}
+
+	@Test
+	public void insertOrDecreaseTest() {
+		
+		PairingHeapDijkstraPriorityObject[] array = new PairingHeapDijkstraPriorityObject[] {
+			new PairingHeapDijkstraPriorityObject(2, Double.MAX_VALUE),
+			new PairingHeapDijkstraPriorityObject(1, Double.MAX_VALUE),
+			new PairingHeapDijkstraPriorityObject(0, Double.MAX_VALUE)
+		};		
+		
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		priorityQueue.insertOrDecrease(array[0], 12.0);
+		priorityQueue.insertOrDecrease(array[1], 23.0);
+		assertEquals(2, priorityQueue.size());
+		
+		priorityQueue.insertOrDecrease(array[1], 5.0);
+		priorityQueue.insertOrDecrease(array[2], 18.0);
+		assertEquals(3, priorityQueue.size());
+		
+		PriorityObject min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(1, min.node);
+		assertEquals(2, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(2, min.node);
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(0, min.node);
+		assertEquals(0, priorityQueue.size());
+	}
+
+	@Test
+	public void orderTest() {
+		
+		Random random = new Random(42);
+		PairingHeapDijkstraPriorityObject[] array = new PairingHeapDijkstraPriorityObject[200];
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = new PairingHeapDijkstraPriorityObject(i, random.nextDouble());
+			priorityQueue.add(array[i]);
+		}
+		// extract a few to build a deeper tree before decreasing the keys
+		PriorityObject min = priorityQueue.extractMin();
+		double last = min.priority;
+		for (int i = 0; i < array.length; i += 3) {
+			if (array[i] != min) {
+				priorityQueue.decreasePriority(array[i], last + (array[i].priority - last) / 2.0);
+			}
+		}
+		
+		int extracted = 1;
+		while (priorityQueue.size() != 0) {
+			min = priorityQueue.extractMin();
+			assertTrue(min.priority >= last);
+			last = min.priority;
+			++extracted;
+		}
+		assertEquals(array.length, extracted);
+	}
+
+}
@@ -0,0 +1,121 @@
+package dijkstra.priority.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.priority.PriorityObject;
+
+public class RadixHeapPriorityQueueTest {
+	
+	@Test
+	public void extractTest() {
+		
+		PriorityObject[] array = new PriorityObject[] {
+			new PriorityObject(2, 12.0),
+			new PriorityObject(1, 23.0),
+			new PriorityObject(0, 18.0)
+		};		
+		
+		RadixHeapPriorityQueue priorityQueue = new RadixHeapPriorityQueue(3);
+		priorityQueue.add(array[0]);
+		priorityQueue.add(array[1]);
+		priorityQueue.add(array[2]);
+		
+		PriorityObject min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(2, min.node);
+		assertEquals(2, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(0, min.node);
+		assertEquals(1, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(1, min.node);
+		assertEquals(0, priorityQueue.size());
+
+		min = priorityQueue.extractMin();
+		assertTrue(min == null);
+	}
+	
+	@Test
+	public void decreaseTest() {
+		
+		PriorityObject[] array = new PriorityObject[] {
+			new PriorityObject(2, 12.0),
+			new PriorityObject(1, 23.0),
+			new PriorityObject(0, 18.0)
+		};		
+		
+		RadixHeapPriorityQueue priorityQueue = new RadixHeapPriorityQueue(3);
+		priorityQueue.add(array[0]);
+		priorityQueue.add(array[1]);
+		priorityQueue.add(array[2]);
+		
+		priorityQueue.decreasePriority(array[1], 5.0);
+		assertEquals(3, priorityQueue.size());
+		
+		PriorityObject min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(1, min.node);
+		assertEquals(2, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(2, min.node);
+		assertEquals(1, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(0, min.node);
+		assertEquals(0, priorityQueue.size());
+
+		min = priorityQueue.extractMin();
+		assertTrue(min == null);
+	}
+	
+	@Test
+	public void monotoneTest() {
+		
+		Random random = new Random(42);
+		PriorityObject[] array = new PriorityObject[200];
+		RadixHeapPriorityQueue priorityQueue = new RadixHeapPriorityQueue(array.length);
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = new PriorityObject(i, Double.MAX_VALUE);
+		}
+		
+		// simulate Dijkstra: every new key is at least the last extracted minimum
+		priorityQueue.insertOrDecrease(array[0], 0.0);
+		double last = 0.0;
+		int extracted = 0;
+		while (priorityQueue.size() != 0) {
+			PriorityObject min = priorityQueue.extractMin();
+			assertTrue(min.priority >= last);
+			last = min.priority;
+			++extracted;
+			for (int i = 0; i < 5; ++i) {
+				PriorityObject next = array[random.nextInt(array.length)];
+				double priority = last + random.nextDouble();
+				if (priority < next.priority) {
+					priorityQueue.insertOrDecrease(next, priority);
+				}
+			}
+		}
+		assertTrue(extracted > 1);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void nonMonotoneTest() {
+		
+		RadixHeapPriorityQueue priorityQueue = new RadixHeapPriorityQueue(2);
+		priorityQueue.add(new PriorityObject(0, 10.0));
+		priorityQueue.extractMin();
+		priorityQueue.add(new PriorityObject(1, 5.0));
+	}
+}
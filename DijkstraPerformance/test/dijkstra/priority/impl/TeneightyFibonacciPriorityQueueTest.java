@@ -76,6 +76,39 @@ public class TeneightyFibonacciPriorityQueueTest {
 
 		min = priorityQueue.extractMin();
 		assertTrue(min == null);
+	}
+
+	@Test
+	public void insertOrDecreaseTest() {
+		
+		TeneightyDijkstraPriorityObject[] array = new TeneightyDijkstraPriorityObject[] {
+			new TeneightyDijkstraPriorityObject(2, Double.MAX_VALUE),
+			new TeneightyDijkstraPriorityObject(1, Double.MAX_VALUE),
+			new TeneightyDijkstraPriorityObject(0, Double.MAX_VALUE)
+		};		
+		
+		TeneightyFibonacciPriorityQueue priorityQueue = new TeneightyFibonacciPriorityQueue();
+		priorityQueue.insertOrDecrease(array[0], 12.0);
+		priorityQueue.insertOrDecrease(array[1], 23.0);
+		assertEquals(2, priorityQueue.size());
+		
+		priorityQueue.insertOrDecrease(array[1], 5.0);
+		priorityQueue.insertOrDecrease(array[2], 18.0);
+		assertEquals(3, priorityQueue.size());
+		
+		PriorityObject min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(1, min.node);
+		assertEquals(2, priorityQueue.size());
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(2, min.node);
+		
+		min = priorityQueue.extractMin();
+		assertTrue(min != null);
+		assertEquals(0, min.node);
+		assertEquals(0, priorityQueue.size());
 	}	
 
 }
@@ -0,0 +1,86 @@
+package dijkstra.workspace;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import dijkstra.graph.NeighbourArrayGraphGenerator;
+import dijkstra.indexed.IndexedBinaryHeap;
+import dijkstra.indexed.IndexedHeapDijkstra;
+import dijkstra.path.Route;
+import dijkstra.priority.PriorityObject;
+import dijkstra.priority.PriorityQueueDijkstra;
+import dijkstra.priority.impl.PairingHeapDijkstraPriorityObject;
+import dijkstra.priority.impl.PairingHeapPriorityQueue;
+
+public class EpochWorkspaceTest {
+	
+	@Test
+	public void test() {
+		EpochWorkspace workspace = new EpochWorkspace(3);
+		workspace.set(1, 2.0, 0);
+		assertTrue(workspace.reached(1));
+		assertEquals(2.0, workspace.distance(1), 0.0);
+		assertEquals(0, workspace.previous(1));
+		assertEquals(Double.MAX_VALUE, workspace.distance(2), 0.0);
+		
+		workspace.nextQuery();
+		assertFalse(workspace.reached(1));
+		assertEquals(Double.MAX_VALUE, workspace.distance(1), 0.0);
+		assertEquals(-1, workspace.previous(1));
+		
+		// entries of the last epoch before the wrap around must not come back
+		workspace.epoch = Integer.MAX_VALUE;
+		workspace.set(2, 1.0, 1);
+		workspace.nextQuery();
+		assertEquals(1, workspace.epoch);
+		assertFalse(workspace.reached(2));
+		assertFalse(workspace.reached(1));
+	}
+	
+	@Test
+	public void engineTest() {
+		NeighbourArrayGraphGenerator generator = new NeighbourArrayGraphGenerator();
+		generator.generateRandomGraph(200, 0.05, new Random(42));
+		
+		int[] expectedPrevious = new int[200];
+		double[] expectedDistance = new double[200];
+		int[] previous = new int[200];
+		PriorityObject[] expectedArray = new PriorityObject[200];
+		PriorityObject[] array = new PriorityObject[200];
+		for (int i = 0; i < 200; ++i) {
+			expectedArray[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+			array[i] = new PairingHeapDijkstraPriorityObject(i, 0.0);
+		}
+		PairingHeapPriorityQueue priorityQueue = new PairingHeapPriorityQueue();
+		IndexedBinaryHeap heap = new IndexedBinaryHeap(200);
+		
+		// one workspace for all queries and engines
+		EpochWorkspace workspace = new EpochWorkspace(200);
+		for (int origin = 0; origin < 200; origin += 9) {
+			PriorityQueueDijkstra.createPreviousArrayLazy(generator.neighbours, generator.weights, origin, expectedPrevious, expectedArray, new PairingHeapPriorityQueue());
+			IndexedHeapDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, expectedDistance, new int[200], heap);
+			
+			PriorityQueueDijkstra.createPreviousArrayLazy(generator.neighbours, generator.weights, origin, workspace, array, priorityQueue);
+			workspace.copyPrevious(previous);
+			assertArrayEquals(expectedPrevious, previous);
+			
+			IndexedHeapDijkstra.createPreviousArray(generator.neighbours, generator.weights, origin, workspace, heap);
+			workspace.copyPrevious(previous);
+			assertArrayEquals(expectedPrevious, previous);
+			for (int v = 0; v < 200; ++v) {
+				assertEquals(expectedDistance[v], workspace.distance(v), 0.0);
+			}
+			
+			for (int target = 0; target < 200; target += 23) {
+				Route route = PriorityQueueDijkstra.pointToPoint(generator.neighbours, generator.weights, origin, target, workspace, array, priorityQueue);
+				assertEquals(expectedDistance[target], route.distance, 0.0);
+				assertEquals(origin, route.path[0]);
+				assertEquals(target, route.path[route.path.length - 1]);
+			}
+		}
+	}
+	
+}